@@ -0,0 +1,23 @@
+-- Post 본문(content)을 post_body 테이블로 분리
+-- 기존 post.id 를 post_body.id 로 그대로 사용해서 1:1 로 옮긴다.
+
+CREATE TABLE post_body
+(
+    id      BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content LONGTEXT
+);
+
+INSERT INTO post_body (id, content)
+SELECT id, content
+FROM post;
+
+ALTER TABLE post ADD COLUMN body_id BIGINT;
+
+UPDATE post
+SET body_id = id;
+
+ALTER TABLE post MODIFY body_id BIGINT NOT NULL;
+ALTER TABLE post ADD CONSTRAINT uk_post_body_id UNIQUE (body_id);
+ALTER TABLE post ADD CONSTRAINT fk_post_body_id FOREIGN KEY (body_id) REFERENCES post_body (id);
+
+ALTER TABLE post DROP COLUMN content;
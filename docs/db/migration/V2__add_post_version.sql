@@ -0,0 +1,7 @@
+-- ETag / Last-Modified 용 게시글 버전 정보
+
+ALTER TABLE post ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE post ADD COLUMN modified_at DATETIME(6);
+
+UPDATE post
+SET modified_at = NOW(6);
@@ -0,0 +1,25 @@
+-- insert 배치를 위해 post / post_body 의 id 를 AUTO_INCREMENT 에서 시퀀스로 변경
+-- MySQL 은 시퀀스가 없어서 Hibernate 가 테이블(next_val)로 흉내낸다.
+-- pooled optimizer (allocationSize 50) 는 처음 읽은 값을 블록의 끝으로 보고 next_val - 49 .. next_val 을 쓰므로
+-- 기존 id 와 겹치지 않도록 MAX(id) + 50 으로 시작한다. (비어 있으면 50 -> 1 .. 50)
+
+CREATE TABLE post_seq
+(
+    next_val BIGINT
+);
+
+INSERT INTO post_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 50
+FROM post;
+
+CREATE TABLE post_body_seq
+(
+    next_val BIGINT
+);
+
+INSERT INTO post_body_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 50
+FROM post_body;
+
+ALTER TABLE post MODIFY id BIGINT NOT NULL;
+ALTER TABLE post_body MODIFY id BIGINT NOT NULL;
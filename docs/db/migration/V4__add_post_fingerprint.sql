@@ -0,0 +1,3 @@
+-- 스팸 탐지용 본문 SimHash (기존 글은 비워둔다)
+
+ALTER TABLE post ADD COLUMN fingerprint BIGINT;
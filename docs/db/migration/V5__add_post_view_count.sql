@@ -0,0 +1,3 @@
+-- 조회수 (메모리에 모았다가 주기적으로 더한다)
+
+ALTER TABLE post ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0;
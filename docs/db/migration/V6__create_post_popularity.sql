@@ -0,0 +1,9 @@
+-- 인기글 점수 snapshot (재시작해도 이어서 쓰기 위함)
+
+CREATE TABLE post_popularity
+(
+    post_id  BIGINT   NOT NULL,
+    score    DOUBLE   NOT NULL,
+    saved_at DATETIME NOT NULL,
+    PRIMARY KEY (post_id)
+);
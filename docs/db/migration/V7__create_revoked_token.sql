@@ -0,0 +1,10 @@
+-- 폐기된 JWT (jti), 만료된 것은 주기적으로 지운다.
+
+CREATE TABLE revoked_token
+(
+    token_id   VARCHAR(64) NOT NULL,
+    expires_at DATETIME,
+    revoked_at DATETIME    NOT NULL,
+    PRIMARY KEY (token_id),
+    INDEX idx_revoked_token_expires_at (expires_at)
+);
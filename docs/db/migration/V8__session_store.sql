@@ -0,0 +1,13 @@
+-- 세션 만료(절대/미사용) 판단용 시각과 accessToken unique index
+-- 기존 세션은 만료 기준을 알 수 없으므로 모두 지운다.
+
+DELETE FROM session;
+
+ALTER TABLE session
+    MODIFY access_token VARCHAR(36) NOT NULL,
+    ADD COLUMN created_at       DATETIME,
+    ADD COLUMN last_accessed_at DATETIME,
+    ADD CONSTRAINT uk_session_access_token UNIQUE (access_token),
+    ADD INDEX idx_session_user_id (user_id),
+    ADD INDEX idx_session_created_at (created_at),
+    ADD INDEX idx_session_last_accessed_at (last_accessed_at);
@@ -0,0 +1,6 @@
+-- 가입 시 이메일 중복은 insert 한 번으로 unique index 가 막는다.
+-- 이미 중복된 이메일이 있으면 먼저 정리해야 적용된다.
+
+ALTER TABLE user
+    MODIFY email VARCHAR(255) NOT NULL,
+    ADD CONSTRAINT uk_user_email UNIQUE (email);
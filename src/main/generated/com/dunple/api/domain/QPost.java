@@ -7,6 +7,7 @@ import com.querydsl.core.types.dsl.*;
 import com.querydsl.core.types.PathMetadata;
 import javax.annotation.processing.Generated;
 import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
 
 
 /**
@@ -17,24 +18,43 @@ public class QPost extends EntityPathBase<Post> {
 
     private static final long serialVersionUID = -656842303L;
 
+    private static final PathInits INITS = PathInits.DIRECT2;
+
     public static final QPost post = new QPost("post");
 
-    public final StringPath content = createString("content");
+    public final QPostBody body;
+
+    public final NumberPath<Long> fingerprint = createNumber("fingerprint", Long.class);
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = createDateTime("modifiedAt", java.time.LocalDateTime.class);
+
     public final StringPath title = createString("title");
 
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
+    public final NumberPath<Long> viewCount = createNumber("viewCount", Long.class);
+
     public QPost(String variable) {
-        super(Post.class, forVariable(variable));
+        this(Post.class, forVariable(variable), INITS);
     }
 
     public QPost(Path<? extends Post> path) {
-        super(path.getType(), path.getMetadata());
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
     }
 
     public QPost(PathMetadata metadata) {
-        super(Post.class, metadata);
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QPost(PathMetadata metadata, PathInits inits) {
+        this(Post.class, metadata, inits);
+    }
+
+    public QPost(Class<? extends Post> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.body = inits.isInitialized("body") ? new QPostBody(forProperty("body")) : null;
     }
 
 }
@@ -0,0 +1,39 @@
+package com.dunple.api.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPostBody is a Querydsl query type for PostBody
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPostBody extends EntityPathBase<PostBody> {
+
+    private static final long serialVersionUID = 637552387L;
+
+    public static final QPostBody postBody = new QPostBody("postBody");
+
+    public final StringPath content = createString("content");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public QPostBody(String variable) {
+        super(PostBody.class, forVariable(variable));
+    }
+
+    public QPostBody(Path<? extends PostBody> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPostBody(PathMetadata metadata) {
+        super(PostBody.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,41 @@
+package com.dunple.api.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPostPopularity is a Querydsl query type for PostPopularity
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPostPopularity extends EntityPathBase<PostPopularity> {
+
+    private static final long serialVersionUID = 1139985366L;
+
+    public static final QPostPopularity postPopularity = new QPostPopularity("postPopularity");
+
+    public final NumberPath<Long> postId = createNumber("postId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> savedAt = createDateTime("savedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Double> score = createNumber("score", Double.class);
+
+    public QPostPopularity(String variable) {
+        super(PostPopularity.class, forVariable(variable));
+    }
+
+    public QPostPopularity(Path<? extends PostPopularity> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPostPopularity(PathMetadata metadata) {
+        super(PostPopularity.class, metadata);
+    }
+
+}
+
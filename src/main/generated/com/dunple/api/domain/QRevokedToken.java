@@ -0,0 +1,41 @@
+package com.dunple.api.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QRevokedToken is a Querydsl query type for RevokedToken
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QRevokedToken extends EntityPathBase<RevokedToken> {
+
+    private static final long serialVersionUID = -723119588L;
+
+    public static final QRevokedToken revokedToken = new QRevokedToken("revokedToken");
+
+    public final DateTimePath<java.time.LocalDateTime> expiresAt = createDateTime("expiresAt", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> revokedAt = createDateTime("revokedAt", java.time.LocalDateTime.class);
+
+    public final StringPath tokenId = createString("tokenId");
+
+    public QRevokedToken(String variable) {
+        super(RevokedToken.class, forVariable(variable));
+    }
+
+    public QRevokedToken(Path<? extends RevokedToken> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QRevokedToken(PathMetadata metadata) {
+        super(RevokedToken.class, metadata);
+    }
+
+}
+
@@ -24,8 +24,12 @@ public class QSession extends EntityPathBase<Session> {
 
     public final StringPath accessToken = createString("accessToken");
 
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
+    public final DateTimePath<java.time.LocalDateTime> lastAccessedAt = createDateTime("lastAccessedAt", java.time.LocalDateTime.class);
+
     public final QUser user;
 
     public QSession(String variable) {
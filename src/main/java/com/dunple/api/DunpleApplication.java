@@ -1,11 +1,27 @@
 package com.dunple.api;
 
 import com.dunple.api.config.AppConfig;
+import com.dunple.api.config.BannedWordProperties;
+import com.dunple.api.config.EmailFilterProperties;
+import com.dunple.api.config.PasswordHashProperties;
+import com.dunple.api.config.PopularPostProperties;
+import com.dunple.api.config.PostCacheProperties;
+import com.dunple.api.config.PostPageCacheProperties;
+import com.dunple.api.config.SessionProperties;
+import com.dunple.api.config.SpamProperties;
+import com.dunple.api.config.TokenCacheProperties;
+import com.dunple.api.config.TokenRevocationProperties;
+import com.dunple.api.config.ViewCountProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@EnableConfigurationProperties(AppConfig.class)
+@EnableScheduling
+@EnableConfigurationProperties({AppConfig.class, PostCacheProperties.class, PostPageCacheProperties.class,
+	BannedWordProperties.class, SpamProperties.class, ViewCountProperties.class, PopularPostProperties.class,
+	PasswordHashProperties.class, TokenCacheProperties.class,
+	TokenRevocationProperties.class, SessionProperties.class, EmailFilterProperties.class})
 @SpringBootApplication
 public class DunpleApplication {
 
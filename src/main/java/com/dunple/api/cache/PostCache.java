@@ -0,0 +1,102 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.config.PostCacheProperties;
+import com.dunple.api.response.PostResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ *  게시글 단건 조회 캐시
+ *  - 크기/TTL 기준으로 만료되고 수정/삭제 시 해당 글만 정확히 지운다.
+ *  - hit/miss/eviction 수치는 cache.gets, cache.evictions 메트릭(cache=post)으로 노출
+ *  - 같은 글에 대한 동시 miss 는 SingleFlight 로 합쳐서 DB 조회는 한 번만 나간다.
+ */
+@Component
+public class PostCache {
+
+    private static final String CACHE_NAME = "post";
+
+    private final Cache<Long, PostResponse> cache;
+    private final SingleFlight<Long, PostResponse> loads;
+    // 조회 도중 수정/삭제가 있었다면 읽어온 값을 캐시에 넣지 않기 위한 카운터
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PostCache(PostCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getExpireAfterWrite())
+            .recordStats()
+            .build();
+        this.loads = new SingleFlight<>(properties.getLoadTimeout());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public PostResponse get(Long id, Function<Long, PostResponse> loader) {
+        PostResponse cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.execute(id, () -> load(id, loader));
+    }
+
+    private PostResponse load(Long id, Function<Long, PostResponse> loader) {
+        long evictionsBefore = evictions.get();
+        PostResponse response = loader.apply(id);
+        putIfNotEvicted(id, response, evictionsBefore);
+        return response;
+    }
+
+    public PostResponse getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    // 캐시에 없는 글들만 loader 로 한번에 읽어온다. (없는 글은 결과에서 빠진다)
+    public Map<Long, PostResponse> getAll(Collection<Long> ids,
+                                          Function<Set<Long>, Map<Long, PostResponse>> loader) {
+        Map<Long, PostResponse> result = new HashMap<>(cache.getAllPresent(ids));
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(result.keySet());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long evictionsBefore = evictions.get();
+        Map<Long, PostResponse> loaded = loader.apply(missing);
+        loaded.forEach((id, response) -> putIfNotEvicted(id, response, evictionsBefore));
+        result.putAll(loaded);
+        return result;
+    }
+
+    // evict 는 evictions 를 올린 뒤 같은 key 를 지우므로, 비교와 넣기를 key 단위로 한번에 해야 옛 값이 남지 않는다.
+    private void putIfNotEvicted(Long id, PostResponse response, long evictionsBefore) {
+        cache.asMap().compute(id, (key, current) -> evictionsBefore == evictions.get() ? response : current);
+    }
+
+    public void evict(Long id) {
+        evictions.incrementAndGet();
+        cache.invalidate(id);
+
+        // 커밋 전에 다른 요청이 옛 값을 다시 채워 넣을 수 있으므로 커밋 후에 한번 더 지운다.
+        AfterCommit.execute(() -> {
+            evictions.incrementAndGet();
+            loads.forget(id);
+            cache.invalidate(id);
+        });
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
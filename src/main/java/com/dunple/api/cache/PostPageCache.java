@@ -0,0 +1,216 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.config.PostPageCacheProperties;
+import com.dunple.api.response.PostResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ *  최신 글 목록 앞쪽 N 페이지 캐시
+ *  - id 내림차순 최신 글 pages * pageSize 개를 한 덩어리(window)로 들고 있다.
+ *  - 작성/수정/삭제 시 window 를 통째로 버리지 않고 해당 글만 끼워 넣거나 바꿔치기 한다.
+ *  - window 범위를 벗어나는 요청은 그대로 DB 조회
+ */
+@Component
+public class PostPageCache {
+
+    private final int capacity;
+    private final Object lock = new Object();
+    private final Object loadLock = new Object();
+
+    private volatile Window window;
+    // 변경이 있을 때마다 증가, 조회 도중 변경이 있었다면 읽어온 window 는 버린다.
+    private long version;
+
+    public PostPageCache(PostPageCacheProperties properties) {
+        this.capacity = properties.getCapacity();
+    }
+
+    public List<PostResponse> get(long offset, int size,
+                                  IntFunction<List<PostResponse>> loader,
+                                  Supplier<List<PostResponse>> fallback) {
+        Window current = loadIfAbsent(loader);
+        if (!current.covers(offset, size)) {
+            return fallback.get();
+        }
+        return current.slice((int) offset, size);
+    }
+
+    // window 를 새로 읽어오지는 않고, 이미 들고 있는 범위일 때만 응답
+    public Optional<List<PostResponse>> find(long offset, int size) {
+        Window current = window;
+        if (current == null || !current.covers(offset, size)) {
+            return Optional.empty();
+        }
+        return Optional.of(current.slice((int) offset, size));
+    }
+
+    // lastId 보다 오래된 글 size 개 (커서 페이징)
+    // 커서 조회 중 window 안에 있을 때만 (window 를 새로 읽어오지 않는다)
+    public Optional<List<PostResponse>> findAfter(Long lastId, int size) {
+        Window current = window;
+        if (current == null) {
+            return Optional.empty();
+        }
+        int from = lastId == null ? 0 : current.indexAfter(lastId);
+        if (!current.covers(from, size)) {
+            return Optional.empty();
+        }
+        return Optional.of(current.slice(from, size));
+    }
+
+    public List<PostResponse> getAfter(Long lastId, int size,
+                                       IntFunction<List<PostResponse>> loader,
+                                       Supplier<List<PostResponse>> fallback) {
+        Window current = loadIfAbsent(loader);
+        int from = lastId == null ? 0 : current.indexAfter(lastId);
+        if (!current.covers(from, size)) {
+            return fallback.get();
+        }
+        return current.slice(from, size);
+    }
+
+    public void onWrite(PostResponse post) {
+        AfterCommit.execute(() -> update(current -> current.insert(post, capacity)));
+    }
+
+    public void onEdit(PostResponse post) {
+        AfterCommit.execute(() -> update(current -> current.replace(post)));
+    }
+
+    public void onDelete(Long id) {
+        AfterCommit.execute(() -> update(current -> current.remove(id, capacity)));
+    }
+
+    public void clear() {
+        AfterCommit.execute(() -> update(current -> null));
+    }
+
+    private void update(UnaryOperator<Window> change) {
+        synchronized (lock) {
+            version++;
+            if (window != null) {
+                window = change.apply(window);
+            }
+        }
+    }
+
+    private Window loadIfAbsent(IntFunction<List<PostResponse>> loader) {
+        Window current = window;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (loadLock) {
+            long versionBefore;
+            synchronized (lock) {
+                if (window != null) {
+                    return window;
+                }
+                versionBefore = version;
+            }
+
+            List<PostResponse> posts = loader.apply(capacity);
+            Window loaded = new Window(posts, posts.size() < capacity);
+            synchronized (lock) {
+                if (version == versionBefore) {
+                    window = loaded;
+                }
+            }
+            return loaded;
+        }
+    }
+
+    private static class Window {
+
+        private final List<PostResponse> posts;
+        // true 면 DB 의 모든 글을 다 들고 있다는 뜻 (window 밖 요청도 빈 목록으로 응답 가능)
+        private final boolean complete;
+
+        private Window(List<PostResponse> posts, boolean complete) {
+            this.posts = Collections.unmodifiableList(posts);
+            this.complete = complete;
+        }
+
+        private boolean covers(long offset, int size) {
+            return complete || offset + size <= posts.size();
+        }
+
+        private List<PostResponse> slice(int offset, int size) {
+            int from = Math.min(offset, posts.size());
+            int to = Math.min(offset + size, posts.size());
+            return posts.subList(from, to);
+        }
+
+        // lastId 바로 다음(더 오래된) 글의 위치
+        private int indexAfter(long lastId) {
+            int index = position(lastId);
+            return index < posts.size() && posts.get(index).getId() == lastId ? index + 1 : index;
+        }
+
+        // id 내림차순 기준으로 id 가 들어갈 자리
+        private int position(long id) {
+            int low = 0;
+            int high = posts.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (posts.get(mid).getId() > id) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private Window insert(PostResponse post, int capacity) {
+            int index = position(post.getId());
+            if (index == posts.size() && !complete) {
+                return this;
+            }
+            List<PostResponse> changed = new ArrayList<>(posts.size() + 1);
+            changed.addAll(posts);
+            if (index < posts.size() && posts.get(index).getId() == post.getId()) {
+                changed.set(index, post);
+                return new Window(changed, complete);
+            }
+            changed.add(index, post);
+            if (changed.size() > capacity) {
+                changed.remove(changed.size() - 1);
+                return new Window(changed, false);
+            }
+            return new Window(changed, complete);
+        }
+
+        private Window replace(PostResponse post) {
+            int index = position(post.getId());
+            if (index == posts.size() || posts.get(index).getId() != post.getId()) {
+                return this;
+            }
+            List<PostResponse> changed = new ArrayList<>(posts);
+            changed.set(index, post);
+            return new Window(changed, complete);
+        }
+
+        private Window remove(Long id, int capacity) {
+            int index = position(id);
+            if (index == posts.size() || posts.get(index).getId() != id) {
+                return this;
+            }
+            List<PostResponse> changed = new ArrayList<>(posts);
+            changed.remove(index);
+            // 너무 많이 줄어들면 다음 조회 때 새로 채운다.
+            if (!complete && changed.size() < capacity / 2) {
+                return null;
+            }
+            return new Window(changed, complete);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.config.PostCacheProperties;
+import com.dunple.api.domain.PostVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ *  게시글 id -> (version, 수정시각)
+ *  - 304 응답 여부를 글 row 를 읽지 않고 판단하기 위한 작은 인덱스
+ */
+@Component
+public class PostVersionIndex {
+
+    private static final String CACHE_NAME = "post-version";
+
+    private final Cache<Long, PostVersion> versions;
+    // 조회 도중 수정/삭제가 있었다면 읽어온 버전은 넣지 않는다. (옛 버전으로 304 를 주면 안되므로)
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PostVersionIndex(PostCacheProperties properties, MeterRegistry meterRegistry) {
+        this.versions = Caffeine.newBuilder()
+            .maximumSize(properties.getVersionIndexSize())
+            .expireAfterWrite(properties.getExpireAfterWrite())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, CACHE_NAME);
+    }
+
+    public PostVersion get(Long id, Function<Long, PostVersion> loader) {
+        PostVersion cached = versions.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        long evictionsBefore = evictions.get();
+        PostVersion version = loader.apply(id);
+        // evict 는 evictions 를 올린 뒤 같은 key 를 지우므로, 비교와 넣기를 key 단위로 한번에 해야 옛 버전이 남지 않는다.
+        versions.asMap().compute(id, (key, current) -> evictionsBefore == evictions.get() ? version : current);
+        return version;
+    }
+
+    public void evict(Long id) {
+        evictions.incrementAndGet();
+        versions.invalidate(id);
+        AfterCommit.execute(() -> {
+            evictions.incrementAndGet();
+            versions.invalidate(id);
+        });
+    }
+}
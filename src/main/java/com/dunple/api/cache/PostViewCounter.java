@@ -0,0 +1,183 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.config.ViewCountProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ *  게시글 조회수
+ *  - 조회할 때마다 update 하지 않고 글마다 LongAdder 에 모아둔다. (같은 글을 동시에 조회해도 서로 막지 않는다)
+ *  - flushInterval 마다 모인 만큼만 batch update 로 더하고, 종료할 때 남은 것도 반영한다.
+ *  - 반영에 실패하면 다음 주기에 다시 더한다.
+ *  - 한 주기 동안 조회가 없던 글은 지우는데, 지우는 사이 옛 counter 에 더해진 조회수는 더한 쪽이 새 counter 로 옮긴다.
+ *  - 응답의 조회수 = DB 에 반영된 값(cache=view-count, view_count 컬럼만 읽음) + 반영 중인 값 + 모여 있는 값
+ *    PostCache / PostPageCache 의 응답은 조회수 때문에 지우지 않고, 응답할 때 이 값으로 덮어쓴다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter implements SchedulingConfigurer {
+
+    private static final String CACHE_NAME = "view-count";
+    private static final String FLUSH_SQL = "update post set view_count = view_count + ? where id = ?";
+    private static final String LOAD_SQL = "select id, view_count from post where id in (%s)";
+
+    private final ConcurrentHashMap<Long, Counter> pending = new ConcurrentHashMap<>();
+    // DB 에 보냈지만 아직 커밋되지 않은 조회수
+    private final ConcurrentHashMap<Long, Long> flushing = new ConcurrentHashMap<>();
+    // DB 에 반영된 조회수
+    private final Cache<Long, Long> persisted;
+    // 반영 중에 읽어온 값은 캐시에 넣지 않기 위한 카운터
+    private final AtomicLong flushes = new AtomicLong();
+    private final ViewCountProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostViewCounter(ViewCountProperties properties, JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.persisted = Caffeine.newBuilder()
+            .maximumSize(properties.getCacheSize())
+            .expireAfterWrite(properties.getCacheTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, persisted, CACHE_NAME);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::flush, properties.getFlushInterval().toMillis());
+    }
+
+    public void increment(Long id) {
+        Counter counter = pending.get(id);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(id, key -> new Counter());
+        }
+        counter.views.increment();
+        if (counter.retired) {
+            // flush 가 지우려던 counter 라면 더한 만큼을 지금 map 에 있는 counter 로 옮긴다.
+            add(id, counter.views.sumThenReset());
+        }
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long pending(Long id) {
+        Counter counter = pending.get(id);
+        return counter == null ? 0 : counter.views.sum();
+    }
+
+    public long viewCount(Long id) {
+        return viewCounts(Set.of(id)).getOrDefault(id, 0L);
+    }
+
+    // 없는 글은 결과에서 빠진다.
+    public Map<Long, Long> viewCounts(Collection<Long> ids) {
+        Map<Long, Long> counts = new HashMap<>(persisted.getAllPresent(ids));
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(counts.keySet());
+        if (!missing.isEmpty()) {
+            counts.putAll(load(missing));
+        }
+        counts.replaceAll((id, count) -> count + flushing.getOrDefault(id, 0L) + pending(id));
+        return counts;
+    }
+
+    private Map<Long, Long> load(Set<Long> ids) {
+        long flushesBefore = flushes.get();
+        String placeholders = ids.stream()
+            .map(id -> "?")
+            .collect(Collectors.joining(","));
+        Map<Long, Long> loaded = new HashMap<>();
+        jdbcTemplate.query(String.format(LOAD_SQL, placeholders),
+            rs -> {
+                loaded.put(rs.getLong(1), rs.getLong(2));
+            },
+            ids.toArray());
+
+        // flush 는 flushes 를 올린 뒤 같은 key 를 지우므로, 비교와 넣기를 key 단위로 한번에 해야 옛 값이 남지 않는다.
+        loaded.forEach((id, count) -> persisted.asMap().compute(id,
+            (key, current) -> flushesBefore == flushes.get() ? count : current));
+        return loaded;
+    }
+
+    @PreDestroy
+    public synchronized void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(FLUSH_SQL, deltas.entrySet(), properties.getBatchSize(), (ps, delta) -> {
+                    ps.setLong(1, delta.getValue());
+                    ps.setLong(2, delta.getKey());
+                }));
+        } catch (RuntimeException e) {
+            deltas.forEach(this::add);
+            deltas.keySet().forEach(flushing::remove);
+            log.warn("조회수를 반영하지 못해 다음 주기에 다시 시도합니다. posts = {}", deltas.size(), e);
+            return;
+        }
+        // 반영된 글의 조회수는 다음에 읽을 때 view_count 만 다시 읽는다.
+        flushes.incrementAndGet();
+        deltas.keySet().forEach(id -> {
+            persisted.invalidate(id);
+            flushing.remove(id);
+        });
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long id : pending.keySet()) {
+            pending.computeIfPresent(id, (key, counter) -> {
+                // retired 를 먼저 세우고 비운다. 그 뒤에 더한 쪽은 retired 를 보고 직접 옮긴다.
+                counter.retired = true;
+                long delta = counter.views.sumThenReset();
+                if (delta == 0) {
+                    // 한 주기 동안 조회가 없던 글은 지운다.
+                    return null;
+                }
+                counter.retired = false;
+                flushing.merge(key, delta, Long::sum);
+                deltas.put(key, delta);
+                return counter;
+            });
+        }
+        return deltas;
+    }
+
+    private void add(Long id, long delta) {
+        if (delta != 0) {
+            pending.computeIfAbsent(id, key -> new Counter()).views.add(delta);
+        }
+    }
+
+    private static class Counter {
+
+        private final LongAdder views = new LongAdder();
+        // flush 가 map 에서 지우는 중이거나 지운 counter
+        private volatile boolean retired;
+    }
+}
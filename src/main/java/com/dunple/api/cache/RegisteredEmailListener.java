@@ -0,0 +1,25 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.domain.User;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.PostPersist;
+
+/**
+ *  가입 경로와 상관없이 저장된 User 의 이메일을 RegisteredEmails 에 넣는다. (커밋 후)
+ *  - Hibernate 가 스프링 빈 컨테이너로 만든다.
+ *  - RegisteredEmails 가 UserRepository 를 통해 EntityManagerFactory 를 쓰므로 순환하지 않도록 나중에 꺼낸다.
+ */
+public class RegisteredEmailListener {
+
+    private final ObjectProvider<RegisteredEmails> registeredEmails;
+
+    public RegisteredEmailListener(ObjectProvider<RegisteredEmails> registeredEmails) {
+        this.registeredEmails = registeredEmails;
+    }
+
+    @PostPersist
+    public void onPersist(User user) {
+        registeredEmails.getObject().add(user.getEmail());
+    }
+}
@@ -0,0 +1,100 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.config.EmailFilterProperties;
+import com.dunple.api.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ *  가입된 이메일 Bloom filter
+ *  - filter 에 없으면 DB 를 보지 않고 가입되지 않은 이메일로 본다.
+ *  - filter 에 있을 수도 있으면 (실제로 가입됐거나 오탐) DB 로 확인한다.
+ *  - 가입은 커밋 후 바로 넣고, rebuildInterval 마다 DB 의 이메일로 크기를 다시 잡아 새로 만든다. (다른 서버에서 가입한 이메일도 이때 반영)
+ *  - 그 사이 다른 서버에서 가입한 이메일은 놓칠 수 있으므로 가입 자체는 email unique index 로 막는다.
+ *  - 추가/재생성은 드물어서 synchronized 로 순서만 맞춘다.
+ */
+@Slf4j
+@Component
+public class RegisteredEmails implements SchedulingConfigurer {
+
+    private final EmailFilterProperties properties;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    // 지난 rebuild 를 시작한 뒤 이 서버에서 넣은 이메일
+    private final Set<String> added = new HashSet<>();
+    private volatile BloomFilter filter;
+
+    public RegisteredEmails(EmailFilterProperties properties, UserRepository userRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.filter = new BloomFilter(properties.getMinCapacity(), properties.getFalsePositiveRate());
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::rebuild, properties.getRebuildInterval().toMillis());
+    }
+
+    // false 면 가입되지 않은 이메일이 확실하다.
+    public boolean mightExist(String email) {
+        return filter.mightContain(normalize(email));
+    }
+
+    public boolean exists(String email) {
+        return mightExist(email) && userRepository.existsByEmail(email);
+    }
+
+    public void add(String email) {
+        AfterCommit.execute(() -> put(normalize(email)));
+    }
+
+    /**
+     *  DB 의 이메일을 한 건씩 읽어서 새로 만든다. (목록으로 들고 있지 않는다)
+     *  - 읽는 사이 이 서버에서 가입한 이메일은 쿼리에 안 보였을 수 있으므로 바꾸기 전에 합친다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            added.clear();
+        }
+        long count = userRepository.count();
+        BloomFilter rebuilt = new BloomFilter((int) Math.min(Integer.MAX_VALUE,
+            Math.max(properties.getMinCapacity(), count * 2)), properties.getFalsePositiveRate());
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                emails.forEach(email -> rebuilt.put(normalize(email)));
+            }
+        });
+
+        synchronized (this) {
+            added.forEach(rebuilt::put);
+            added.clear();
+            filter = rebuilt;
+        }
+        log.debug("가입 이메일 filter 갱신: 약 {}건", count);
+    }
+
+    private synchronized void put(String email) {
+        filter.put(email);
+        added.add(email);
+    }
+
+    // DB collation 이 대소문자를 구분하지 않아도 놓치지 않도록 소문자로 넣는다.
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,75 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.config.TokenRevocationProperties;
+import com.dunple.api.domain.RevokedToken;
+import com.dunple.api.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ *  토큰 폐기 (로그아웃)
+ *  - revoked_token 테이블에 남기고 커밋 후 TokenDenylist 에 바로 넣는다.
+ *  - rebuildInterval 마다 만료된 행을 지우고 남은 목록으로 TokenDenylist 를 다시 만든다. (다른 서버에서 폐기한 토큰도 이때 반영)
+ */
+@Slf4j
+@Component
+public class RevokedTokens implements SchedulingConfigurer {
+
+    private final TokenRevocationProperties properties;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenDenylist denylist;
+
+    public RevokedTokens(TokenRevocationProperties properties, RevokedTokenRepository revokedTokenRepository) {
+        this.properties = properties;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.denylist = new TokenDenylist(properties.getFalsePositiveRate());
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::rebuild, properties.getRebuildInterval().toMillis());
+    }
+
+    public TokenDenylist getDenylist() {
+        return denylist;
+    }
+
+    public void revoke(String tokenId, Date expiration) {
+        LocalDateTime expiresAt = expiration == null
+            ? null
+            : LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
+        revokedTokenRepository.save(RevokedToken.builder()
+            .tokenId(tokenId)
+            .expiresAt(expiresAt)
+            .build());
+        AfterCommit.execute(() -> denylist.add(tokenId, toMillis(expiresAt)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int expired = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        List<RevokedToken> revoked = revokedTokenRepository.findAll();
+        Map<String, Long> expirations = revoked.stream()
+            .collect(Collectors.toMap(RevokedToken::getTokenId, token -> toMillis(token.getExpiresAt())));
+        denylist.rebuild(expirations, System.currentTimeMillis());
+        log.debug("폐기 토큰 목록 갱신: {}건 (만료 삭제 {}건)", denylist.size(), expired);
+    }
+
+    private static long toMillis(LocalDateTime expiresAt) {
+        if (expiresAt == null) {
+            return TokenDenylist.NEVER_EXPIRES;
+        }
+        return expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,166 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.config.SessionProperties;
+import com.dunple.api.domain.Session;
+import com.dunple.api.domain.User;
+import com.dunple.api.repository.SessionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ *  로그인 세션 저장소
+ *  - 세션을 만들 때 사용자의 최신 maxPerUser 개만 보고 넘치는 것은 지운다. (사용자의 세션 전체를 읽지 않는다)
+ *  - accessToken 조회는 메모리(cache=session)에서 먼저 찾고, 없을 때만 unique index 로 DB 조회
+ *  - 절대 만료(absoluteTtl) 와 미사용 만료(idleTtl) 를 둘 다 확인하고, 마지막 사용 시각은 touchInterval 마다만 DB 에 쓴다.
+ *  - sweepInterval 마다 만료된 세션을 sweepBatchSize 개씩 지운다.
+ *  - 다른 서버에서 지운 세션은 그 서버의 메모리에서 idleTtl 이 지나야 빠진다.
+ */
+@Slf4j
+@Component
+public class SessionStore implements SchedulingConfigurer {
+
+    private static final String CACHE_NAME = "session";
+
+    private final SessionProperties properties;
+    private final SessionRepository sessionRepository;
+    private final Cache<String, ActiveSession> sessions;
+
+    public SessionStore(SessionProperties properties, SessionRepository sessionRepository, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sessionRepository = sessionRepository;
+        this.sessions = Caffeine.newBuilder()
+            .maximumSize(properties.getCacheSize())
+            .expireAfterAccess(properties.getIdleTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, CACHE_NAME);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(() -> sweep(LocalDateTime.now()), properties.getSweepInterval().toMillis());
+    }
+
+    @Transactional
+    public Session create(User user) {
+        // 새 세션까지 maxPerUser 개가 되도록 오래된 것을 지운다.
+        List<Session> latest = sessionRepository.findLatestByUserId(user.getId(),
+            PageRequest.of(0, properties.getMaxPerUser() + 1));
+        if (latest.size() >= properties.getMaxPerUser()) {
+            remove(latest.subList(properties.getMaxPerUser() - 1, latest.size()));
+        }
+
+        Session session = sessionRepository.save(Session.builder()
+            .user(user)
+            .build());
+        AfterCommit.execute(() -> sessions.put(session.getAccessToken(), new ActiveSession(session)));
+        return session;
+    }
+
+    // 만료되지 않은 세션인지, 쓰였으면 마지막 사용 시각을 갱신한다.
+    public boolean isActive(String accessToken) {
+        LocalDateTime now = LocalDateTime.now();
+        ActiveSession session = sessions.getIfPresent(accessToken);
+        if (session == null) {
+            session = sessionRepository.findByAccessToken(accessToken)
+                .map(ActiveSession::new)
+                .orElse(null);
+            if (session == null) {
+                return false;
+            }
+            sessions.put(accessToken, session);
+        }
+
+        if (isExpired(session, now)) {
+            sessions.invalidate(accessToken);
+            return false;
+        }
+        touch(session, now);
+        return true;
+    }
+
+    public void remove(String accessToken) {
+        sessionRepository.deleteByAccessToken(accessToken);
+        sessions.invalidate(accessToken);
+    }
+
+    // 만료된 세션을 batch 단위로 지운다. 지운 개수
+    public int sweep(LocalDateTime now) {
+        LocalDateTime createdBefore = now.minus(properties.getAbsoluteTtl());
+        LocalDateTime accessedBefore = now.minus(properties.getIdleTtl());
+        PageRequest batch = PageRequest.of(0, properties.getSweepBatchSize());
+
+        int swept = sweep(() -> sessionRepository.findCreatedBefore(createdBefore, batch))
+            + sweep(() -> sessionRepository.findAccessedBefore(accessedBefore, batch));
+        if (swept > 0) {
+            log.info("만료된 세션 삭제: {}건", swept);
+        }
+        return swept;
+    }
+
+    private int sweep(Supplier<List<Session>> nextBatch) {
+        int swept = 0;
+        while (true) {
+            List<Session> expired = nextBatch.get();
+            if (expired.isEmpty()) {
+                return swept;
+            }
+            remove(expired);
+            swept += expired.size();
+            if (expired.size() < properties.getSweepBatchSize()) {
+                return swept;
+            }
+        }
+    }
+
+    private void remove(List<Session> expired) {
+        sessionRepository.deleteAllByIdInBatch(expired.stream()
+            .map(Session::getId)
+            .collect(Collectors.toList()));
+        expired.forEach(session -> sessions.invalidate(session.getAccessToken()));
+    }
+
+    private boolean isExpired(ActiveSession session, LocalDateTime now) {
+        return !session.createdAt.plus(properties.getAbsoluteTtl()).isAfter(now)
+            || !session.lastAccessedAt.plus(properties.getIdleTtl()).isAfter(now);
+    }
+
+    private void touch(ActiveSession session, LocalDateTime now) {
+        if (session.persistedAccessedAt.plus(properties.getTouchInterval()).isAfter(now)) {
+            session.lastAccessedAt = now;
+            return;
+        }
+        session.lastAccessedAt = now;
+        session.persistedAccessedAt = now;
+        sessionRepository.touch(session.id, now);
+    }
+
+    private static class ActiveSession {
+
+        private final Long id;
+        private final LocalDateTime createdAt;
+        private volatile LocalDateTime lastAccessedAt;
+        // DB 에 마지막으로 쓴 사용 시각
+        private volatile LocalDateTime persistedAccessedAt;
+
+        private ActiveSession(Session session) {
+            this.id = session.getId();
+            this.createdAt = session.getCreatedAt();
+            this.lastAccessedAt = session.getLastAccessedAt();
+            this.persistedAccessedAt = session.getLastAccessedAt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.dunple.api.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  폐기된 토큰(jti) 목록
+ *  - 조회는 Bloom filter 로 먼저 거르고, 있을 수도 있다고 나온 것만 정확한 목록에서 확인한다. (락/DB/객체 생성 없음)
+ *  - rebuild 때 만료된 토큰을 빼고 개수에 맞춰 filter 를 새로 만든다.
+ *  - 추가/재생성은 드물어서 synchronized 로 순서만 맞춘다.
+ */
+public class TokenDenylist {
+
+    // 만료 시각을 알 수 없는 토큰은 지우지 않는다.
+    public static final long NEVER_EXPIRES = Long.MAX_VALUE;
+
+    // 다음 rebuild 전까지 더 들어와도 오탐률이 크게 오르지 않도록 여유를 둔다.
+    private static final int MIN_CAPACITY = 1024;
+
+    private final double falsePositiveRate;
+    private volatile Snapshot snapshot;
+
+    public TokenDenylist(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = new Snapshot(Map.of(), falsePositiveRate);
+    }
+
+    public boolean contains(String tokenId) {
+        Snapshot current = snapshot;
+        return current.filter.mightContain(tokenId) && current.expirations.containsKey(tokenId);
+    }
+
+    public synchronized void add(String tokenId, long expiresAt) {
+        snapshot.expirations.put(tokenId, expiresAt);
+        snapshot.filter.put(tokenId);
+    }
+
+    /**
+     *  저장소에서 읽어온 목록으로 새로 만든다.
+     *  - 읽어오는 사이 이 서버에서 추가된 것도 잃지 않도록 지금 목록과 합친다.
+     */
+    public synchronized void rebuild(Map<String, Long> revoked, long now) {
+        Map<String, Long> merged = new HashMap<>(revoked);
+        snapshot.expirations.forEach(merged::putIfAbsent);
+        merged.values().removeIf(expiresAt -> expiresAt <= now);
+        snapshot = new Snapshot(merged, falsePositiveRate);
+    }
+
+    public int size() {
+        return snapshot.expirations.size();
+    }
+
+    private static class Snapshot {
+
+        private final ConcurrentHashMap<String, Long> expirations;
+        private final BloomFilter filter;
+
+        private Snapshot(Map<String, Long> expirations, double falsePositiveRate) {
+            this.expirations = new ConcurrentHashMap<>(expirations);
+            this.filter = new BloomFilter(Math.max(MIN_CAPACITY, expirations.size() * 2), falsePositiveRate);
+            expirations.keySet().forEach(filter::put);
+        }
+    }
+}
@@ -1,18 +1,39 @@
 package com.dunple.api.config;
 
 import io.jsonwebtoken.io.Decoders;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.Keys;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
 
-@RequiredArgsConstructor
 @ConstructorBinding
 @ConfigurationProperties(prefix = "midcon")
 public class AppConfig {
 
     private final String jwtKey;
+    // 요청마다 base64 디코딩하지 않도록 한 번만 만든다.
+    private final SecretKey secretKey;
+    // 로그인할 때 발급하는 토큰의 유효 기간
+    private final Duration jwtTtl;
+
+    public AppConfig(String jwtKey, @DefaultValue("24h") Duration jwtTtl) {
+        this.jwtKey = jwtKey;
+        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtKey));
+        this.jwtTtl = jwtTtl;
+    }
 
     public byte[] getJwtKey() {
         return Decoders.BASE64.decode(jwtKey);
     }
+
+    public SecretKey getSecretKey() {
+        return secretKey;
+    }
+
+    public Duration getJwtTtl() {
+        return jwtTtl;
+    }
 }
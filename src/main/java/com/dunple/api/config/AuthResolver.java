@@ -1,14 +1,19 @@
 package com.dunple.api.config;
 
+import com.dunple.api.cache.SessionStore;
+import com.dunple.api.cache.TokenDenylist;
 import com.dunple.api.config.data.Login;
 import com.dunple.api.config.data.UserSession;
 import com.dunple.api.exception.UnauthorizedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -16,13 +21,44 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
-import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
 
+/**
+ *  Authorization 헤더의 JWT 를 검증해서 @Login UserSession 으로 넘겨준다.
+ *  - key 와 parser 는 한 번만 만들어서 같이 쓴다. (parser 는 스레드 안전)
+ *  - 검증에 성공한 토큰은 토큰 원문을 key 로 토큰 만료(최대 maxTtl)까지 캐시해서 다시 오면 서명 검증/JSON 파싱을 건너뛴다.
+ *    (서명만 key 로 쓰면 header.payload 를 바꾼 토큰도 캐시에 걸리므로 원문 전체를 비교한다)
+ *  - 검증에 실패한 토큰은 캐시하지 않는다.
+ *  - jti 나 exp 가 없는 (예전에 발급한) 토큰은 폐기할 수 없으므로 받지 않는다. (다시 로그인)
+ *  - 캐시 여부와 상관없이 매번 TokenDenylist 로 폐기(로그아웃)된 토큰인지, SessionStore 로 만료된 세션인지 확인한다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class AuthResolver implements HandlerMethodArgumentResolver {
 
-    private final AppConfig appConfig;
+    private static final String CACHE_NAME = "jwt";
+
+    private final JwtParser parser;
+    private final Duration maxTtl;
+    private final Cache<String, VerifiedToken> verified;
+    private final TokenDenylist denylist;
+    private final SessionStore sessionStore;
+
+    public AuthResolver(AppConfig appConfig, TokenCacheProperties properties, MeterRegistry meterRegistry,
+                        TokenDenylist denylist, SessionStore sessionStore) {
+        this.parser = Jwts.parser()
+            .verifyWith(appConfig.getSecretKey())
+            .build();
+        this.maxTtl = properties.getMaxTtl();
+        this.verified = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfter(new UntilExpiration())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, CACHE_NAME);
+        this.denylist = denylist;
+        this.sessionStore = sessionStore;
+    }
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -36,17 +72,74 @@ public class AuthResolver implements HandlerMethodArgumentResolver {
             log.error("토큰이 없어요");
             throw new UnauthorizedException();
         }
-        SecretKey key = Keys.hmacShaKeyFor(appConfig.getJwtKey());
 
+        VerifiedToken token = verified.getIfPresent(jws);
+        if (token == null) {
+            token = verify(jws);
+            if (token.ttlNanos > 0) {
+                verified.put(jws, token);
+            }
+        }
+
+        String tokenId = token.session.getTokenId();
+        if (denylist.contains(tokenId)) {
+            log.info("폐기된 JWT 토큰");
+            throw new UnauthorizedException();
+        }
+        if (!sessionStore.isActive(tokenId)) {
+            log.info("만료된 세션");
+            throw new UnauthorizedException();
+        }
+        return token.session;
+    }
+
+    private VerifiedToken verify(String jws) {
         try {
-            Jws<Claims> claimsJws = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(jws);
-            return new UserSession(claimsJws.getPayload().getSubject());
+            Claims claims = parser.parseSignedClaims(jws).getPayload();
+            if (claims.getId() == null || claims.getExpiration() == null) {
+                log.info("jti 나 exp 가 없는 JWT 토큰");
+                throw new UnauthorizedException();
+            }
+            UserSession session = new UserSession(claims.getSubject(), claims.getId(), claims.getExpiration());
+            return new VerifiedToken(session, ttlNanos(claims.getExpiration()));
         } catch (JwtException e) {
             log.info("올바르지 않은 JWT 토큰 정보");
             throw new UnauthorizedException();
         }
     }
+
+    private long ttlNanos(Date expiration) {
+        long untilExpiration = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+        return Math.min(untilExpiration, maxTtl.toNanos());
+    }
+
+    private static class VerifiedToken {
+
+        private final UserSession session;
+        private final long ttlNanos;
+
+        private VerifiedToken(UserSession session, long ttlNanos) {
+            this.session = session;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+
+    // 캐시에 넣을 때 정한 만료 시각은 조회해도 늘어나지 않는다.
+    private static class UntilExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return value.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return value.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.banned-words")
+public class BannedWordProperties {
+
+    // 한 줄에 금지어 하나 (file: 경로면 수정 시각을 보고 다시 읽는다)
+    private final String location;
+    private final Duration reloadInterval;
+
+    public BannedWordProperties(@DefaultValue("classpath:banned-words.txt") String location,
+                                @DefaultValue("10s") Duration reloadInterval) {
+        this.location = location;
+        this.reloadInterval = reloadInterval;
+    }
+}
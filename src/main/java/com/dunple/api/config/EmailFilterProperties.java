@@ -0,0 +1,28 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.email-filter")
+public class EmailFilterProperties {
+
+    // 가입된 이메일 수가 이보다 적어도 이만큼은 잡아둔다. (다시 만들 때까지 늘어날 몫)
+    private final int minCapacity;
+    private final double falsePositiveRate;
+    // 다른 서버에서 가입한 이메일을 반영하고 크기를 다시 잡는 주기
+    private final Duration rebuildInterval;
+
+    public EmailFilterProperties(@DefaultValue("10000") int minCapacity,
+                                 @DefaultValue("0.01") double falsePositiveRate,
+                                 @DefaultValue("10m") Duration rebuildInterval) {
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildInterval = rebuildInterval;
+    }
+}
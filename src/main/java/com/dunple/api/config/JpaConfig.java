@@ -0,0 +1,25 @@
+package com.dunple.api.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+@Configuration
+public class JpaConfig {
+
+    // 시퀀스 allocationSize 와 맞춘다.
+    public static final int BATCH_SIZE = 50;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.put(STATEMENT_BATCH_SIZE, BATCH_SIZE);
+            properties.put(ORDER_INSERTS, true);
+            properties.put(ORDER_UPDATES, true);
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.password-hash")
+public class PasswordHashProperties {
+
+    // 해싱 전용 스레드 수 (0 이면 CPU 코어 수)
+    private final int threads;
+    // 이만큼 밀려 있으면 더 받지 않고 바로 503
+    private final int queueCapacity;
+
+    public PasswordHashProperties(@DefaultValue("0") int threads,
+                                  @DefaultValue("64") int queueCapacity) {
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity;
+    }
+}
@@ -0,0 +1,41 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.popular-posts")
+public class PopularPostProperties {
+
+    // 인기글 몇 개까지 들고 있을지
+    private final int size;
+    // 조회/수정 점수가 절반이 되는 시간
+    private final Duration halfLife;
+    // 조회 한 번을 1 로 봤을 때 수정 한 번의 점수
+    private final double editWeight;
+    private final Duration rescaleInterval;
+    // 재시작해도 이어서 쓰도록 점수를 DB 에 저장하는 주기
+    private final Duration snapshotInterval;
+
+    public PopularPostProperties(@DefaultValue("20") int size,
+                                 @DefaultValue("6h") Duration halfLife,
+                                 @DefaultValue("5") double editWeight,
+                                 @DefaultValue("10m") Duration rescaleInterval,
+                                 @DefaultValue("1m") Duration snapshotInterval) {
+        this.size = size;
+        this.halfLife = halfLife;
+        this.editWeight = editWeight;
+        this.rescaleInterval = rescaleInterval;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    // top 밖에서 치고 올라올 후보까지 들고 있을 개수
+    public int getCapacity() {
+        return size * 10;
+    }
+}
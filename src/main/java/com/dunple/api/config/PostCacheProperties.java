@@ -0,0 +1,31 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.post-cache")
+public class PostCacheProperties {
+
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    // 같은 글을 동시에 조회할 때 먼저 간 조회를 기다려주는 최대 시간
+    private final Duration loadTimeout;
+    // 조건부 요청(304) 판단용 버전 정보는 작아서 더 많이 들고 있는다.
+    private final long versionIndexSize;
+
+    public PostCacheProperties(@DefaultValue("10000") long maximumSize,
+                               @DefaultValue("10m") Duration expireAfterWrite,
+                               @DefaultValue("3s") Duration loadTimeout,
+                               @DefaultValue("100000") long versionIndexSize) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.loadTimeout = loadTimeout;
+        this.versionIndexSize = versionIndexSize;
+    }
+}
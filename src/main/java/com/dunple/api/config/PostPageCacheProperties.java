@@ -0,0 +1,26 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.post-page-cache")
+public class PostPageCacheProperties {
+
+    // 최신 글 기준 앞에서 몇 페이지까지 들고 있을지
+    private final int pages;
+    private final int pageSize;
+
+    public PostPageCacheProperties(@DefaultValue("3") int pages,
+                                   @DefaultValue("20") int pageSize) {
+        this.pages = pages;
+        this.pageSize = pageSize;
+    }
+
+    public int getCapacity() {
+        return pages * pageSize;
+    }
+}
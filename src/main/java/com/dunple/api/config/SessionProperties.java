@@ -0,0 +1,43 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.session")
+public class SessionProperties {
+
+    // 사용자당 최대 세션 수, 넘치면 오래된 것부터 지운다.
+    private final int maxPerUser;
+    // 로그인 후 이 시간이 지나면 사용 여부와 상관없이 만료
+    private final Duration absoluteTtl;
+    // 이 시간 동안 쓰지 않으면 만료
+    private final Duration idleTtl;
+    // 마지막 사용 시각은 이 간격보다 자주 DB 에 쓰지 않는다.
+    private final Duration touchInterval;
+    private final Duration sweepInterval;
+    private final int sweepBatchSize;
+    // 메모리에 들고 있을 세션 수
+    private final long cacheSize;
+
+    public SessionProperties(@DefaultValue("5") int maxPerUser,
+                             @DefaultValue("24h") Duration absoluteTtl,
+                             @DefaultValue("2h") Duration idleTtl,
+                             @DefaultValue("5m") Duration touchInterval,
+                             @DefaultValue("5m") Duration sweepInterval,
+                             @DefaultValue("500") int sweepBatchSize,
+                             @DefaultValue("10000") long cacheSize) {
+        this.maxPerUser = maxPerUser;
+        this.absoluteTtl = absoluteTtl;
+        this.idleTtl = idleTtl;
+        this.touchInterval = touchInterval;
+        this.sweepInterval = sweepInterval;
+        this.sweepBatchSize = sweepBatchSize;
+        this.cacheSize = cacheSize;
+    }
+}
@@ -0,0 +1,37 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.spam")
+public class SpamProperties {
+
+    public enum Action {
+        // 비슷한 글이 있으면 400
+        REJECT,
+        // 저장은 하고 로그/메트릭만 남긴다.
+        FLAG
+    }
+
+    // SimHash 64bit 중 이 개수 이하로 다르면 같은 글로 본다. (짧은 글은 몇 글자만 바꿔도 5~7비트 달라진다)
+    private final int maxDistance;
+    // 최근 글 몇 개의 fingerprint 와 비교할지
+    private final int recentSize;
+    // 이보다 짧은 본문은 fingerprint 가 흔들려서 검사하지 않는다.
+    private final int minLength;
+    private final Action action;
+
+    public SpamProperties(@DefaultValue("7") int maxDistance,
+                          @DefaultValue("100000") int recentSize,
+                          @DefaultValue("50") int minLength,
+                          @DefaultValue("REJECT") Action action) {
+        this.maxDistance = maxDistance;
+        this.recentSize = recentSize;
+        this.minLength = minLength;
+        this.action = action;
+    }
+}
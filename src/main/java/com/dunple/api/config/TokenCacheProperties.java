@@ -0,0 +1,24 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.token-cache")
+public class TokenCacheProperties {
+
+    private final long maximumSize;
+    // 토큰 만료 시각과 이 값 중 먼저 오는 때까지 들고 있는다. (만료가 없는 토큰도 있어서)
+    private final Duration maxTtl;
+
+    public TokenCacheProperties(@DefaultValue("10000") long maximumSize,
+                                @DefaultValue("10m") Duration maxTtl) {
+        this.maximumSize = maximumSize;
+        this.maxTtl = maxTtl;
+    }
+}
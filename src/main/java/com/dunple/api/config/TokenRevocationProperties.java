@@ -0,0 +1,24 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.token-revocation")
+public class TokenRevocationProperties {
+
+    // 만료된 토큰을 지우고 다른 서버에서 폐기한 토큰까지 다시 읽어오는 주기
+    private final Duration rebuildInterval;
+    private final double falsePositiveRate;
+
+    public TokenRevocationProperties(@DefaultValue("1m") Duration rebuildInterval,
+                                     @DefaultValue("0.01") double falsePositiveRate) {
+        this.rebuildInterval = rebuildInterval;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+}
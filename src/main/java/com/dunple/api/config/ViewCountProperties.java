@@ -0,0 +1,32 @@
+package com.dunple.api.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@Getter
+@ConstructorBinding
+@ConfigurationProperties(prefix = "midcon.view-count")
+public class ViewCountProperties {
+
+    // 메모리에 모아둔 조회수를 DB 에 반영하는 주기
+    private final Duration flushInterval;
+    // update 몇 건씩 묶어서 보낼지
+    private final int batchSize;
+    // DB 에 반영된 조회수를 들고 있을 글 수와 시간 (다른 서버에서 반영한 조회수는 이 시간이 지나야 보인다)
+    private final long cacheSize;
+    private final Duration cacheTtl;
+
+    public ViewCountProperties(@DefaultValue("5s") Duration flushInterval,
+                               @DefaultValue("500") int batchSize,
+                               @DefaultValue("10000") long cacheSize,
+                               @DefaultValue("1m") Duration cacheTtl) {
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+        this.cacheSize = cacheSize;
+        this.cacheTtl = cacheTtl;
+    }
+}
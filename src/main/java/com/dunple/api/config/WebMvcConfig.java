@@ -1,5 +1,8 @@
 package com.dunple.api.config;
 
+import com.dunple.api.cache.RevokedTokens;
+import com.dunple.api.cache.SessionStore;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -12,9 +15,14 @@ import java.util.List;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final AppConfig appConfig;
+    private final TokenCacheProperties tokenCacheProperties;
+    private final MeterRegistry meterRegistry;
+    private final RevokedTokens revokedTokens;
+    private final SessionStore sessionStore;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.add(new AuthResolver(appConfig));
+        resolvers.add(new AuthResolver(appConfig, tokenCacheProperties, meterRegistry, revokedTokens.getDenylist(),
+            sessionStore));
     }
 }
@@ -2,12 +2,19 @@ package com.dunple.api.config.data;
 
 import lombok.Getter;
 
+import java.util.Date;
+
 @Getter
 public class UserSession {
 
     private final String name;
+    // 폐기(로그아웃)할 때 쓰는 jti 와 만료 시각, 예전에 발급한 토큰에는 없다.
+    private final String tokenId;
+    private final Date expiration;
 
-    public UserSession(String name) {
+    public UserSession(String name, String tokenId, Date expiration) {
         this.name = name;
+        this.tokenId = tokenId;
+        this.expiration = expiration;
     }
 }
@@ -3,21 +3,23 @@ package com.dunple.api.controller;
 import com.dunple.api.config.AppConfig;
 import com.dunple.api.config.data.Login;
 import com.dunple.api.config.data.UserSession;
+import com.dunple.api.domain.Session;
 import com.dunple.api.request.LoginRequest;
 import com.dunple.api.request.Signup;
+import com.dunple.api.response.EmailResponse;
 import com.dunple.api.response.SessionResponse;
 import com.dunple.api.service.AuthService;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -27,26 +29,44 @@ public class AuthController {
     private final AuthService authService;
     private final AppConfig appConfig;
 
+    // 해싱이 끝날 때까지 요청 스레드를 잡고 있지 않도록 비동기로 응답
     @PostMapping("/auth/signup")
-    public void signup(@RequestBody Signup signup) {
-        authService.signup(signup);
+    public CompletableFuture<Void> signup(@RequestBody Signup signup) {
+        return authService.signup(signup);
+    }
+
+    // 가입 폼에서 이메일 중복 확인, 대부분 DB 를 보지 않고 답한다.
+    @GetMapping("/auth/signup/email")
+    public EmailResponse checkEmail(@RequestParam String email) {
+        return new EmailResponse(email, authService.existsEmail(email));
     }
 
     @PostMapping("/auth/login")
-    public SessionResponse login(@RequestBody LoginRequest request) {
-        String name = authService.signin(request);
+    public CompletableFuture<SessionResponse> login(@RequestBody LoginRequest request) {
+        return authService.signin(request)
+            .thenApply(this::issueToken);
+    }
+
+    private SessionResponse issueToken(Session session) {
         // key 만드는 메서드
 //        SecretKey key = Jwts.SIG.HS256.key().build();
 //        String strKey = Encoders.BASE64.encode(key.getEncoded());
-        SecretKey secretKey = Keys.hmacShaKeyFor(appConfig.getJwtKey());
-        // 토큰을 응답
+        // 토큰을 응답 (jti 는 세션의 accessToken, 로그아웃할 때 폐기 목록의 key)
+        Date now = new Date();
         return new SessionResponse(Jwts.builder()
-            .subject(name)
-            .issuedAt(new Date())
-            .signWith(secretKey)
+            .id(session.getAccessToken())
+            .subject(session.getUser().getName())
+            .issuedAt(now)
+            .expiration(new Date(now.getTime() + appConfig.getJwtTtl().toMillis()))
+            .signWith(appConfig.getSecretKey())
             .compact());
     }
 
+    @PostMapping("/auth/logout")
+    public void logout(@Login UserSession session) {
+        authService.logout(session);
+    }
+
     @GetMapping("/auth")
     public String access(@Login UserSession session) {
         return session.getName() + " 님 안녕하세요";
@@ -1,18 +1,38 @@
 package com.dunple.api.controller;
 
+import com.dunple.api.config.data.Login;
 import com.dunple.api.config.data.UserSession;
+import com.dunple.api.domain.PostVersion;
+import com.dunple.api.request.PostBulkCreate;
 import com.dunple.api.request.PostCreate;
 import com.dunple.api.request.PostEdit;
+import com.dunple.api.request.PostField;
 import com.dunple.api.request.PostSearch;
+import com.dunple.api.response.PartialPostResponse;
+import com.dunple.api.response.PartialPostSliceResponse;
+import com.dunple.api.response.PostBulkResponse;
+import com.dunple.api.response.PostDeleteResponse;
+import com.dunple.api.response.PostLookupResponse;
 import com.dunple.api.response.PostResponse;
+import com.dunple.api.response.PostSliceResponse;
+import com.dunple.api.response.PostSuggestion;
+import com.dunple.api.response.PostSummary;
 import com.dunple.api.service.PostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Slf4j
@@ -20,7 +40,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final PostService postService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/hello")
     public String hello(UserSession userSession) {
@@ -29,33 +52,144 @@ public class PostController {
 
     @PostMapping("/posts")
     public PostResponse post(@RequestBody @Valid PostCreate request) {
-        request.validate();
         return postService.write(request);
     }
 
+    @PostMapping("/posts/bulk")
+    public PostBulkResponse postAll(@RequestBody @Valid PostBulkCreate request) {
+        return postService.writeAll(request);
+    }
+
     @GetMapping("/posts/{postId}")
-    public PostResponse get(@PathVariable(name = "postId") Long id) {
+    public PostResponse get(@PathVariable(name = "postId") Long id, WebRequest webRequest) {
+        // 버전 정보만으로 304 를 판단하고, 바뀌었을 때만 글을 조회한다.
+        PostVersion version = postService.getVersion(id);
+        postService.countView(id);
+        if (webRequest.checkNotModified(version.getWeakETag(), version.getLastModified())) {
+            return null;
+        }
         return postService.get(id);
     }
 
+    @GetMapping(value = "/posts/{postId}", params = "fields")
+    public PartialPostResponse get(@PathVariable(name = "postId") Long id, @RequestParam String fields) {
+        PartialPostResponse response = postService.get(id, PostField.parse(fields));
+        postService.countView(id);
+        return response;
+    }
+
+    // 전체 글을 한 줄에 하나씩(NDJSON) 내려준다.
+    @GetMapping("/posts/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = out -> postService.export(post -> writeLine(out, post));
+        return ResponseEntity.ok()
+            .contentType(NDJSON)
+            .body(body);
+    }
+
+    private void writeLine(OutputStream out, PostResponse post) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(post));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @GetMapping("/posts/search")
+    public List<PostResponse> search(@RequestParam String q, @RequestParam(defaultValue = "10") int size) {
+        return postService.search(q, size);
+    }
+
+    @GetMapping("/posts/popular")
+    public List<PostResponse> getPopular(@RequestParam(defaultValue = "10") int size) {
+        return postService.getPopular(size);
+    }
+
+    @GetMapping("/posts/suggest")
+    public List<PostSuggestion> suggest(@RequestParam String prefix, @RequestParam(defaultValue = "10") int size) {
+        return postService.suggest(prefix, size);
+    }
+
+    @GetMapping(value = "/posts", params = "ids")
+    public List<PostLookupResponse> getAll(@RequestParam List<Long> ids) {
+        return postService.getAll(ids);
+    }
+
     @GetMapping("/posts")
-    public List<PostResponse> getList(Pageable pageable) {
+    public List<PostResponse> getList(Pageable pageable, WebRequest webRequest) {
         ResponseEntity.ok("a");
-        return postService.getList(pageable);
+        List<PostResponse> posts = postService.getList(pageable);
+        if (webRequest.checkNotModified(PostETags.of(posts))) {
+            return null;
+        }
+        return posts;
+    }
+
+    @GetMapping(value = "/posts", params = "fields")
+    public List<PartialPostResponse> getList(Pageable pageable, @RequestParam String fields) {
+        return postService.getList(pageable, PostField.parse(fields));
     }
 
     @GetMapping("/posts2")
-    public List<PostResponse> getListQueryDsl(PostSearch postSearch) {
-        return postService.getListQueryDsl(postSearch);
+    public List<PostResponse> getListQueryDsl(PostSearch postSearch, WebRequest webRequest) {
+        List<PostResponse> posts = postService.getListQueryDsl(postSearch);
+        if (webRequest.checkNotModified(PostETags.of(posts))) {
+            return null;
+        }
+        return posts;
+    }
+
+    @GetMapping(value = "/posts2", params = "fields")
+    public List<PartialPostResponse> getListQueryDsl(PostSearch postSearch, @RequestParam String fields) {
+        return postService.getListQueryDsl(postSearch, PostField.parse(fields));
+    }
+
+    @GetMapping("/posts2/summary")
+    public List<PostSummary> getSummaryList(PostSearch postSearch) {
+        return postService.getSummaryList(postSearch);
+    }
+
+    @GetMapping("/posts2/cursor")
+    public PostSliceResponse getListByCursor(PostSearch postSearch, WebRequest webRequest) {
+        PostSliceResponse slice = postService.getListByCursor(postSearch);
+        if (webRequest.checkNotModified(PostETags.of(slice.getPosts()))) {
+            return null;
+        }
+        return slice;
+    }
+
+    @GetMapping(value = "/posts2/cursor", params = "fields")
+    public PartialPostSliceResponse getListByCursor(PostSearch postSearch, @RequestParam String fields) {
+        return postService.getListByCursor(postSearch, PostField.parse(fields));
     }
 
     @PatchMapping("/posts/{postId}")
-    public PostResponse edit(@PathVariable Long postId, @RequestBody @Valid PostEdit request) {
-        return postService.edit(postId, request);
+    public ResponseEntity<PostResponse> edit(@PathVariable Long postId, @RequestBody @Valid PostEdit request,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        request.validate();
+        PostResponse response = postService.edit(postId, request, PostETags.versions(postId, ifMatch));
+        return ResponseEntity.ok()
+            .eTag(PostETags.of(response))
+            .body(response);
     }
 
     @DeleteMapping("/posts/{postId}")
-    public void delete(@PathVariable Long postId) {
-        postService.delete(postId);
+    public void delete(@PathVariable Long postId,
+                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        postService.delete(postId, PostETags.versions(postId, ifMatch));
+    }
+
+    // 여러 글을 한 번에 지우는 관리용 API 라 로그인한 사용자만 쓸 수 있다.
+    @DeleteMapping(value = "/posts", params = "ids")
+    public PostDeleteResponse deleteAll(@Login UserSession session, @RequestParam List<Long> ids) {
+        log.info("글 일괄 삭제: {} ({}건)", session.getName(), ids.size());
+        return postService.deleteAll(ids);
+    }
+
+    @DeleteMapping(value = "/posts", params = {"fromId", "toId"})
+    public PostDeleteResponse deleteRange(@Login UserSession session, @RequestParam Long fromId, @RequestParam Long toId) {
+        log.info("글 범위 삭제: {} ({} ~ {})", session.getName(), fromId, toId);
+        return postService.deleteRange(fromId, toId);
     }
 }
@@ -4,6 +4,7 @@ import com.dunple.api.exception.DunpleException;
 import com.dunple.api.response.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -30,6 +31,16 @@ public class PostControllerAdvice {
         return response;
     }
 
+    // 엔티티로 수정하다 @Version 충돌이 난 경우
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ErrorResponse optimisticLockHandler(ObjectOptimisticLockingFailureException e) {
+        return ErrorResponse.builder()
+            .code("412")
+            .message("다른 요청에서 먼저 수정된 글입니다. 다시 조회 후 시도해주세요.")
+            .build();
+    }
+
     @ExceptionHandler(DunpleException.class)
     public ResponseEntity<ErrorResponse> dunpleExceptionHandler(DunpleException e) {
         int statusCode = e.getStatusCode();
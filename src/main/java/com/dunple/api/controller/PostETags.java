@@ -0,0 +1,69 @@
+package com.dunple.api.controller;
+
+import com.dunple.api.domain.PostVersion;
+import com.dunple.api.response.PostResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  목록 응답용 ETag
+ *  - 목록에 담긴 글들의 (id, version) 으로 만든다.
+ *  - 조회수는 version 과 상관없이 바뀌므로 조회 응답에는 약한 ETag(W/)를 쓴다.
+ *  - 단건 ETag("id-version") 와 If-Match 해석도 여기서 한다.
+ */
+final class PostETags {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private PostETags() {
+    }
+
+    static String of(List<PostResponse> posts) {
+        long hash = FNV_OFFSET;
+        for (PostResponse post : posts) {
+            hash = mix(hash, post.getId());
+            hash = mix(hash, post.getVersion() == null ? -1 : post.getVersion());
+        }
+        return "W/\"" + posts.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    static String of(PostResponse post) {
+        return new PostVersion(post.getId(), post.getVersion(), post.getModifiedAt()).getETag();
+    }
+
+    /**
+     *  If-Match 에 담긴 이 글의 version 목록
+     *  - 헤더가 없거나 * 이면 null (확인하지 않음)
+     *  - 약한 ETag(W/)나 다른 글의 ETag 는 무시하므로 빈 목록이면 어떤 version 과도 맞지 않는다.
+     */
+    static List<Long> versions(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String prefix = "\"" + id + "-";
+        List<Long> versions = new ArrayList<>();
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (!trimmed.startsWith(prefix) || !trimmed.endsWith("\"") || trimmed.length() <= prefix.length()) {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(trimmed.substring(prefix.length(), trimmed.length() - 1)));
+            } catch (NumberFormatException ignored) {
+                // 이 글의 ETag 형식이 아니면 무시
+            }
+        }
+        return versions;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
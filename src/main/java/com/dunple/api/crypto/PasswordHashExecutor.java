@@ -0,0 +1,76 @@
+package com.dunple.api.crypto;
+
+import com.dunple.api.config.PasswordHashProperties;
+import com.dunple.api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ *  비밀번호 해싱 전용 스레드풀
+ *  - scrypt 는 CPU 를 오래 잡고 있으므로 톰캣 요청 스레드가 아니라 코어 수만큼의 스레드에서만 돌린다.
+ *  - 큐가 가득 차면 기다리게 하지 않고 바로 503 (로그인 폭주가 다른 API 까지 막지 않도록)
+ *  - 큐 대기 시간/해싱 시간은 password.hash.queue, password.hash.time 히스토그램으로 노출
+ */
+@Component
+public class PasswordHashExecutor {
+
+    private static final String NAME = "password-hash";
+
+    private final PasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer queueTime;
+    private final Timer hashTime;
+
+    public PasswordHashExecutor(PasswordEncoder encoder, PasswordHashProperties properties, MeterRegistry meterRegistry) {
+        this.encoder = encoder;
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+            0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            new CustomizableThreadFactory(NAME + "-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.queueTime = Timer.builder("password.hash.queue")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.hashTime = Timer.builder("password.hash.time")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, NAME, List.of()).bindTo(meterRegistry);
+    }
+
+    public CompletableFuture<String> encrypt(String rawPassword) {
+        return submit(() -> encoder.encrypt(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encryptedPassword) {
+        return submit(() -> encoder.matches(rawPassword, encryptedPassword));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> hash) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueTime.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return hashTime.record(hash);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -4,43 +4,85 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
+// 바뀐 컬럼만 update
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
 
+    // IDENTITY 는 insert 를 배치로 묶을 수 없어서 시퀀스에서 50개씩 받아 쓴다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     private Long id;
 
     private String title;
 
-    @Lob // java 에선 String 이지만 DB 에선 long text 형태로 생성되게 해줌
-    private String content;
+    // 본문은 필요한 곳(단건 조회, 수정)에서만 지연 로딩
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true, optional = false)
+    @JoinColumn(name = "body_id")
+    private PostBody body;
+
+    // ETag / Last-Modified 용
+    @Version
+    private Long version;
+
+    private LocalDateTime modifiedAt;
+
+    // 작성 시점 본문의 SimHash (짧은 글은 null), 기동할 때 스팸 탐지 색인을 다시 만드는 데 쓴다.
+    private Long fingerprint;
+
+    // PostViewCounter 가 모아서 더한다. (엔티티 수정은 @DynamicUpdate 라 이 컬럼을 덮어쓰지 않는다)
+    private long viewCount;
 
     @Builder
-    public Post(String title, String content) {
+    public Post(String title, String content, Long fingerprint) {
         this.title = title;
-        this.content = content;
+        this.body = new PostBody(content);
+        this.modifiedAt = LocalDateTime.now();
+        this.fingerprint = fingerprint;
     }
 
+    public String getContent() {
+        return body.getContent();
+    }
+
+    // 본문은 바꿀 때만 읽도록 editor 에 미리 채우지 않는다.
     public PostEditor.PostEditorBuilder toEditor() {
         return PostEditor.builder()
-            .title(title)
-            .content(content);
+            .title(title);
     }
 
+    // null 인 값은 그대로 둔다.
     public void edit(String title, String content) {
-        this.title = title;
-        this.content = content;
+        boolean changed = false;
+        if (title != null && !title.equals(this.title)) {
+            this.title = title;
+            changed = true;
+        }
+        if (content != null && !content.equals(getContent())) {
+            body.edit(content);
+            changed = true;
+        }
+        // 본문만 바뀌어도 Post 의 version 이 올라가도록 수정시각을 같이 바꾼다.
+        if (changed) {
+            this.modifiedAt = LocalDateTime.now();
+        }
+    }
+
+    // 본문을 바꿀 때 다시 계산한 값
+    public void changeFingerprint(Long fingerprint) {
+        this.fingerprint = fingerprint;
     }
 
     public void edit1(PostEditor postEditor) {
-        title = postEditor.getTitle();
-        content = postEditor.getContent();
+        edit(postEditor.getTitle(), postEditor.getContent());
     }
 }
 
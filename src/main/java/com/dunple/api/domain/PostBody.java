@@ -0,0 +1,33 @@
+package com.dunple.api.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ *  게시글 본문
+ *  - 목록 조회나 단순 조회 시 본문까지 끌려오지 않도록 Post 와 테이블을 분리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostBody {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_body_seq")
+    @SequenceGenerator(name = "post_body_seq", sequenceName = "post_body_seq", allocationSize = 50)
+    private Long id;
+
+    @Lob // java 에선 String 이지만 DB 에선 long text 형태로 생성되게 해줌
+    private String content;
+
+    public PostBody(String content) {
+        this.content = content;
+    }
+
+    public void edit(String content) {
+        this.content = content;
+    }
+}
@@ -0,0 +1,24 @@
+package com.dunple.api.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 인기글 점수 snapshot (PopularPosts 가 주기적으로 통째로 바꿔 쓴다)
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostPopularity {
+
+    @Id
+    private Long postId;
+
+    // savedAt 시점까지 줄어든 점수
+    private double score;
+
+    private LocalDateTime savedAt;
+}
@@ -0,0 +1,19 @@
+package com.dunple.api.domain;
+
+import lombok.Getter;
+
+/**
+ *  제목 자동완성 색인용 (id, 제목)
+ *  - 응답용 PostResponse 와 달리 제목을 자르지 않는다.
+ */
+@Getter
+public class PostTitle {
+
+    private final Long id;
+    private final String title;
+
+    public PostTitle(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+}
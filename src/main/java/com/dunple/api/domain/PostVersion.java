@@ -0,0 +1,37 @@
+package com.dunple.api.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ *  조건부 요청(If-None-Match / If-Modified-Since) 판단용 게시글 버전 정보
+ *  - 본문은 물론 제목도 없이 id, version, 수정시각만 가진다.
+ */
+@Getter
+public class PostVersion {
+
+    private final Long id;
+    private final Long version;
+    private final LocalDateTime modifiedAt;
+
+    public PostVersion(Long id, Long version, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.version = version;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public String getETag() {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // 조회 응답은 같은 version 이어도 조회수가 달라질 수 있어서 약한 ETag 로 내려준다.
+    public String getWeakETag() {
+        return "W/" + getETag();
+    }
+
+    public long getLastModified() {
+        return modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
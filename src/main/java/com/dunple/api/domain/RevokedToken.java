@@ -0,0 +1,33 @@
+package com.dunple.api.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 로그아웃 등으로 폐기된 토큰, 토큰이 만료되면 지운다.
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken {
+
+    // JWT 의 jti
+    @Id
+    private String tokenId;
+
+    // 만료가 없는 토큰이면 null
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime revokedAt;
+
+    @Builder
+    public RevokedToken(String tokenId, LocalDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = LocalDateTime.now();
+    }
+}
@@ -6,28 +6,44 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 import static java.util.UUID.randomUUID;
 import static javax.persistence.GenerationType.IDENTITY;
 
+// 로그인 세션, accessToken 은 JWT 의 jti 로도 쓴다.
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    uniqueConstraints = @UniqueConstraint(name = "uk_session_access_token", columnNames = "accessToken"),
+    indexes = {
+        @Index(name = "idx_session_user_id", columnList = "user_id"),
+        @Index(name = "idx_session_created_at", columnList = "createdAt"),
+        @Index(name = "idx_session_last_accessed_at", columnList = "lastAccessedAt")
+    })
 public class Session {
 
-
     @Id
     @GeneratedValue(strategy = IDENTITY)
     private Long id;
 
+    @Column(length = 36, nullable = false)
     private String accessToken;
 
     @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
+    private LocalDateTime createdAt;
+
+    // idle TTL 판단용, 요청마다가 아니라 SessionStore 가 가끔씩만 갱신한다.
+    private LocalDateTime lastAccessedAt;
+
     @Builder
     public Session(User user) {
         this.accessToken = randomUUID().toString();
         this.user = user;
+        this.createdAt = LocalDateTime.now();
+        this.lastAccessedAt = this.createdAt;
     }
 }
@@ -1,5 +1,6 @@
 package com.dunple.api.domain;
 
+import com.dunple.api.cache.RegisteredEmailListener;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -7,12 +8,12 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(RegisteredEmailListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_email", columnNames = "email"))
 public class User {
 
     @Id
@@ -21,15 +22,13 @@ public class User {
 
     private String name;
 
+    @Column(nullable = false)
     private String email;
 
     private String password;
 
     private LocalDateTime createdAt;
 
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "user")
-    private List<Session> sessions = new ArrayList<>();
-
     @Builder
     public User(String name, String email, String password) {
         this.name = name;
@@ -37,12 +36,4 @@ public class User {
         this.password = password;
         this.createdAt = LocalDateTime.now();
     }
-
-    public Session addSession() {
-        Session session = Session.builder()
-            .user(this)
-            .build();
-        sessions.add(session);
-        return session;
-    }
 }
@@ -0,0 +1,21 @@
+package com.dunple.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ *  status -> 412
+ *  - If-Match 로 보낸 버전과 현재 글의 버전이 다를 때
+ */
+public class PreconditionFailedException extends DunpleException {
+
+    private static final String MESSAGE = "다른 요청에서 먼저 수정된 글입니다. 다시 조회 후 시도해주세요.";
+
+    public PreconditionFailedException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.PRECONDITION_FAILED.value();
+    }
+}
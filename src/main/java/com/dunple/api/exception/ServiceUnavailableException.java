@@ -0,0 +1,24 @@
+package com.dunple.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ *  status -> 503
+ */
+public class ServiceUnavailableException extends DunpleException {
+
+    private static final String MESSAGE = "요청이 많아 잠시 후 다시 시도해주세요.";
+
+    public ServiceUnavailableException() {
+        super(MESSAGE);
+    }
+
+    public ServiceUnavailableException(Throwable cause) {
+        super(MESSAGE, cause);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+}
@@ -0,0 +1,171 @@
+package com.dunple.api.filter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ *  여러 단어를 한 번에 찾는 Aho-Corasick 오토마타
+ *  - 단어 수와 상관없이 본문 길이에 비례하는 시간으로 찾는다.
+ *  - 한 번 만들면 바뀌지 않으므로 여러 스레드에서 같이 써도 된다.
+ *  - 대소문자는 글자 단위로 맞추므로 찾은 위치는 원래 본문 기준이다.
+ */
+public final class AhoCorasick {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    // 상태별 다음 글자(정렬)와 이동할 상태
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    // 이 상태에서 끝나는 단어 (없으면 NONE)
+    private final int[] output;
+    // fail 을 따라가다 처음 만나는 단어가 끝나는 상태 (없으면 NONE)
+    private final int[] outputLink;
+    private final String[] words;
+
+    private AhoCorasick(char[][] keys, int[][] targets, int[] fail, int[] output, int[] outputLink, String[] words) {
+        this.keys = keys;
+        this.targets = targets;
+        this.fail = fail;
+        this.output = output;
+        this.outputLink = outputLink;
+        this.words = words;
+    }
+
+    public static AhoCorasick compile(Collection<String> words) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String word : words) {
+            String trimmed = lowerCase(word.trim());
+            if (!trimmed.isEmpty()) {
+                normalized.add(trimmed);
+            }
+        }
+
+        // 1. trie
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        outputs.add(NONE);
+        String[] dictionary = normalized.toArray(new String[0]);
+        for (int index = 0; index < dictionary.length; index++) {
+            int state = ROOT;
+            for (char c : dictionary[index].toCharArray()) {
+                Integer next = edges.get(state).get(c);
+                if (next == null) {
+                    next = edges.size();
+                    edges.add(new TreeMap<>());
+                    outputs.add(NONE);
+                    edges.get(state).put(c, next);
+                }
+                state = next;
+            }
+            outputs.set(state, index);
+        }
+
+        int size = edges.size();
+        char[][] keys = new char[size][];
+        int[][] targets = new int[size][];
+        int[] output = new int[size];
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> edge = edges.get(state);
+            keys[state] = new char[edge.size()];
+            targets[state] = new int[edge.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> entry : edge.entrySet()) {
+                keys[state][i] = entry.getKey();
+                targets[state][i] = entry.getValue();
+                i++;
+            }
+            output[state] = outputs.get(state);
+        }
+
+        // 2. 너비 우선으로 fail / outputLink
+        int[] fail = new int[size];
+        int[] outputLink = new int[size];
+        outputLink[ROOT] = NONE;
+        AhoCorasick automaton = new AhoCorasick(keys, targets, fail, output, outputLink, dictionary);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            outputLink[child] = NONE;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < keys[state].length; i++) {
+                char c = keys[state][i];
+                int child = targets[state][i];
+                int f = fail[state];
+                while (f != ROOT && automaton.next(f, c) == NONE) {
+                    f = fail[f];
+                }
+                int target = automaton.next(f, c);
+                fail[child] = target == NONE ? ROOT : target;
+                outputLink[child] = output[fail[child]] != NONE ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+        return automaton;
+    }
+
+    public List<WordMatch> findAll(String text) {
+        if (text == null || words.length == 0) {
+            return List.of();
+        }
+
+        List<WordMatch> matches = new ArrayList<>();
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            while (state != ROOT && next(state, c) == NONE) {
+                state = fail[state];
+            }
+            int target = next(state, c);
+            state = target == NONE ? ROOT : target;
+
+            for (int s = output[state] != NONE ? state : outputLink[state]; s != NONE; s = outputLink[s]) {
+                String word = words[output[s]];
+                matches.add(new WordMatch(word, i + 1 - word.length(), i + 1));
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    private int next(int state, char c) {
+        char[] chars = keys[state];
+        int low = 0;
+        int high = chars.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (chars[mid] < c) {
+                low = mid + 1;
+            } else if (chars[mid] > c) {
+                high = mid - 1;
+            } else {
+                return targets[state][mid];
+            }
+        }
+        return NONE;
+    }
+
+    // 위치가 어긋나지 않도록 글자 하나씩 소문자로
+    private static String lowerCase(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
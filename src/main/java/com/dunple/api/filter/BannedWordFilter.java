@@ -0,0 +1,94 @@
+package com.dunple.api.filter;
+
+import com.dunple.api.config.BannedWordProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ *  글 제목/내용 금지어 검사
+ *  - 금지어 목록을 Aho-Corasick 오토마타로 만들어 두고 글을 쓸 때마다 한 번 훑는다.
+ *  - 목록 파일이 바뀌면 새로 만든 오토마타로 통째로 바꾼다. (검사 중인 요청은 이전 것을 그대로 사용)
+ *  - 새 목록을 읽다 실패하면 이전 목록을 계속 쓴다.
+ */
+@Slf4j
+@Component
+public class BannedWordFilter implements SchedulingConfigurer {
+
+    private final Resource resource;
+    private final BannedWordProperties properties;
+    private volatile AhoCorasick automaton;
+    private volatile long lastModified;
+
+    public BannedWordFilter(BannedWordProperties properties, ResourceLoader resourceLoader) {
+        this.properties = properties;
+        this.resource = resourceLoader.getResource(properties.getLocation());
+        this.lastModified = lastModified();
+        this.automaton = AhoCorasick.compile(read());
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::reloadIfModified, properties.getReloadInterval().toMillis());
+    }
+
+    public List<WordMatch> findAll(String text) {
+        return automaton.findAll(text);
+    }
+
+    public void reloadIfModified() {
+        long modified = lastModified();
+        if (modified == lastModified) {
+            return;
+        }
+        try {
+            reload();
+            lastModified = modified;
+        } catch (RuntimeException e) {
+            log.warn("금지어 목록을 다시 읽지 못해 이전 목록을 계속 사용합니다. location = {}", properties.getLocation(), e);
+        }
+    }
+
+    public void reload() {
+        AhoCorasick compiled = AhoCorasick.compile(read());
+        automaton = compiled;
+        log.info("금지어 목록 적용: {}개", compiled.size());
+    }
+
+    public static String describe(List<WordMatch> matches) {
+        return "금지어를 포함할 수 없습니다. " + matches.stream()
+            .map(WordMatch::toString)
+            .collect(Collectors.joining(", "));
+    }
+
+    private List<String> read() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("금지어 목록을 읽을 수 없습니다. location = " + properties.getLocation(), e);
+        }
+    }
+
+    // jar 안의 classpath 자원처럼 수정 시각을 알 수 없으면 다시 읽지 않는다.
+    private long lastModified() {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.dunple.api.filter;
+
+import java.util.Arrays;
+
+/**
+ *  64bit SimHash
+ *  - 공백을 하나로 줄이고 소문자로 맞춘 본문을 3글자씩(shingle) 잘라 각각 해시한 뒤 비트마다 다수결
+ *  - 몇 글자만 바꾼 글은 fingerprint 가 몇 비트만 달라진다.
+ */
+public final class SimHash {
+
+    private static final int SHINGLE = 3;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHash() {
+    }
+
+    public static long of(String text) {
+        char[] chars = normalize(text);
+        int shingles = Math.max(1, chars.length - SHINGLE + 1);
+
+        // 비트마다 1 의 개수를 세는 64개 카운터를 비트 평면으로 들고 한 번에 더한다.
+        // (planes[p] 의 bit 번째 비트 = bit 번째 카운터의 2^p 자리) shingle 하나에 평균 두 번 정도만 돈다.
+        long[] planes = new long[Integer.SIZE];
+        for (int start = 0; start < shingles; start++) {
+            long carry = hash(chars, start, Math.min(chars.length, start + SHINGLE));
+            for (int p = 0; carry != 0; p++) {
+                long next = planes[p] & carry;
+                planes[p] ^= carry;
+                carry = next;
+            }
+        }
+
+        // 절반보다 많이 1 이 나온 비트만 1
+        long fingerprint = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            long ones = 0;
+            for (int p = 0; p < planes.length; p++) {
+                ones |= ((planes[p] >>> bit) & 1L) << p;
+            }
+            if (ones * 2 > shingles) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static char[] normalize(String text) {
+        char[] result = new char[text.length()];
+        int length = 0;
+        boolean space = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!space) {
+                    result[length++] = ' ';
+                }
+                space = true;
+            } else {
+                result[length++] = Character.toLowerCase(c);
+                space = false;
+            }
+        }
+        if (length > 0 && result[length - 1] == ' ') {
+            length--;
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    // FNV-1a 뒤에 비트를 한 번 더 섞는다. (짧은 입력에서 상위 비트가 고르게 나오도록)
+    private static long hash(char[] chars, int from, int to) {
+        long hash = FNV_OFFSET;
+        for (int i = from; i < to; i++) {
+            hash ^= chars[i];
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,106 @@
+package com.dunple.api.filter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *  최근 fingerprint 들을 밴드로 나눠 색인 (LSH)
+ *  - 64bit 를 (maxDistance + 1) 개 밴드로 나누면, maxDistance 비트 이하로 다른 두 값은 적어도 한 밴드가 같다.
+ *  - 같은 밴드 값을 가진 후보만 실제 거리를 재므로 전체를 훑지 않는다.
+ *  - 최근 capacity 개만 들고 있고, 넘치면 가장 오래된 것부터 뺀다. (링 버퍼)
+ *  - 동기화하지 않으므로 SpamDetector 에서 락을 잡고 사용한다.
+ */
+class SimHashIndex {
+
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final int maxDistance;
+    private final int bands;
+    private final int bandBits;
+    // 밴드별 (밴드 값 -> 링 버퍼 위치들)
+    private final Map<Long, int[]>[] tables;
+    private final long[] fingerprints;
+    private int next;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    SimHashIndex(int maxDistance, int capacity) {
+        this.maxDistance = maxDistance;
+        this.bands = Math.min(Long.SIZE, maxDistance + 1);
+        this.bandBits = (Long.SIZE + bands - 1) / bands;
+        this.tables = new Map[bands];
+        for (int band = 0; band < bands; band++) {
+            tables[band] = new HashMap<>();
+        }
+        this.fingerprints = new long[capacity];
+    }
+
+    // maxDistance 이하로 가까운 fingerprint 가 있으면 그 값, 없으면 null
+    Long findNear(long fingerprint) {
+        for (int band = 0; band < bands; band++) {
+            for (int slot : tables[band].getOrDefault(bandKey(fingerprint, band), NO_SLOTS)) {
+                if (SimHash.distance(fingerprints[slot], fingerprint) <= maxDistance) {
+                    return fingerprints[slot];
+                }
+            }
+        }
+        return null;
+    }
+
+    void add(long fingerprint) {
+        if (fingerprints.length == 0) {
+            return;
+        }
+        int slot = next;
+        if (size == fingerprints.length) {
+            for (int band = 0; band < bands; band++) {
+                removeSlot(band, bandKey(fingerprints[slot], band), slot);
+            }
+        } else {
+            size++;
+        }
+
+        fingerprints[slot] = fingerprint;
+        for (int band = 0; band < bands; band++) {
+            tables[band].merge(bandKey(fingerprint, band), new int[]{slot}, SimHashIndex::concat);
+        }
+        next = (slot + 1) % fingerprints.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private long bandKey(long fingerprint, int band) {
+        int shift = band * bandBits;
+        int bits = Math.min(bandBits, Long.SIZE - shift);
+        long mask = bits == Long.SIZE ? -1L : (1L << bits) - 1;
+        return (fingerprint >>> shift) & mask;
+    }
+
+    private void removeSlot(int band, long key, int slot) {
+        int[] slots = tables[band].get(key);
+        if (slots == null) {
+            return;
+        }
+        if (slots.length == 1) {
+            tables[band].remove(key);
+            return;
+        }
+        int[] remaining = new int[slots.length - 1];
+        int i = 0;
+        for (int s : slots) {
+            if (s != slot && i < remaining.length) {
+                remaining[i++] = s;
+            }
+        }
+        tables[band].put(key, remaining);
+    }
+
+    private static int[] concat(int[] slots, int[] added) {
+        int[] result = Arrays.copyOf(slots, slots.length + added.length);
+        System.arraycopy(added, 0, result, slots.length, added.length);
+        return result;
+    }
+}
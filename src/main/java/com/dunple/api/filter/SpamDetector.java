@@ -0,0 +1,140 @@
+package com.dunple.api.filter;
+
+import com.dunple.api.cache.AfterCommit;
+import com.dunple.api.config.SpamProperties;
+import com.dunple.api.exception.InvalidRequestException;
+import com.dunple.api.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  조금씩 바꿔서 반복 등록하는 스팸 글 탐지
+ *  - 본문 SimHash 를 최근 글들과 비교해서 maxDistance 비트 이하로 다르면 같은 글로 본다.
+ *  - fingerprint 는 post 에 같이 저장하고(수정하면 다시 계산), 기동할 때 최근 글 것으로 색인을 다시 만든다.
+ *  - 비슷한 글 수는 post.spam 메트릭(action=reject/flag)으로 노출
+ */
+@Slf4j
+@Component
+public class SpamDetector {
+
+    private final SpamProperties properties;
+    private final PostRepository postRepository;
+    private final SimHashIndex index;
+    // 검사는 통과했지만 아직 커밋되지 않은 fingerprint (index 락으로 같이 보호)
+    private final List<Long> reserved = new ArrayList<>();
+    private final Counter detected;
+
+    public SpamDetector(SpamProperties properties, PostRepository postRepository, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.postRepository = postRepository;
+        this.index = new SimHashIndex(properties.getMaxDistance(), properties.getRecentSize());
+        this.detected = meterRegistry.counter("post.spam", "action", properties.getAction().name().toLowerCase());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Long> fingerprints = postRepository.getRecentFingerprints(properties.getRecentSize());
+        synchronized (index) {
+            // 오래된 글부터 넣어야 넘칠 때 오래된 것부터 빠진다.
+            for (int i = fingerprints.size() - 1; i >= 0; i--) {
+                index.add(fingerprints.get(i));
+            }
+        }
+        log.info("스팸 탐지 fingerprint 색인 완료: {}건", fingerprints.size());
+    }
+
+    // 짧아서 검사하지 않는 본문이면 null
+    public Long fingerprint(String content) {
+        if (content == null || content.length() < properties.getMinLength()) {
+            return null;
+        }
+        return SimHash.of(content);
+    }
+
+    /**
+     *  최근 글과 비슷하면 REJECT 는 400, FLAG 는 로그만 남긴다.
+     *  - 통과한 fingerprint 는 바로 예약해서, 동시에 들어온 같은 글도 하나만 통과시킨다.
+     *  - 예약은 커밋되면 색인으로 옮기고, 롤백되면 풀어서 같은 글로 다시 시도할 수 있게 한다.
+     */
+    public void check(Long fingerprint) {
+        if (fingerprint == null) {
+            return;
+        }
+
+        Long near;
+        boolean accepted;
+        synchronized (index) {
+            near = findNear(fingerprint);
+            accepted = near == null || properties.getAction() == SpamProperties.Action.FLAG;
+            if (accepted) {
+                reserved.add(fingerprint);
+            }
+        }
+        if (accepted) {
+            addAfterCompletion(fingerprint);
+        }
+        if (near == null) {
+            return;
+        }
+
+        detected.increment();
+        if (properties.getAction() == SpamProperties.Action.REJECT) {
+            throw new InvalidRequestException("content", "최근에 등록된 글과 거의 같은 내용입니다.");
+        }
+        log.warn("최근 글과 비슷한 글이 등록됩니다. fingerprint = {}, 거리 = {}",
+            Long.toHexString(fingerprint), SimHash.distance(near, fingerprint));
+    }
+
+    private Long findNear(long fingerprint) {
+        Long near = index.findNear(fingerprint);
+        if (near != null) {
+            return near;
+        }
+        for (Long candidate : reserved) {
+            if (SimHash.distance(candidate, fingerprint) <= properties.getMaxDistance()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void addAfterCompletion(Long fingerprint) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(fingerprint, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(fingerprint, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void release(Long fingerprint, boolean committed) {
+        synchronized (index) {
+            reserved.remove(fingerprint);
+            if (committed) {
+                index.add(fingerprint);
+            }
+        }
+    }
+
+    // 일괄 등록/수정은 검사하지 않고 커밋 후 색인에만 넣는다.
+    public void onWrite(List<Long> fingerprints) {
+        AfterCommit.execute(() -> {
+            synchronized (index) {
+                fingerprints.forEach(index::add);
+            }
+        });
+    }
+}
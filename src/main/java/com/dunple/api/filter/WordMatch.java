@@ -0,0 +1,25 @@
+package com.dunple.api.filter;
+
+import lombok.Getter;
+
+/**
+ *  본문에서 찾은 금지어와 위치 [start, end)
+ */
+@Getter
+public class WordMatch {
+
+    private final String word;
+    private final int start;
+    private final int end;
+
+    public WordMatch(String word, int start, int end) {
+        this.word = word;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public String toString() {
+        return word + "(" + start + "~" + end + ")";
+    }
+}
@@ -0,0 +1,7 @@
+package com.dunple.api.repository;
+
+import com.dunple.api.domain.PostPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostPopularityRepository extends JpaRepository<PostPopularity, Long> {
+}
@@ -1,7 +1,38 @@
 package com.dunple.api.repository;
 
 import com.dunple.api.domain.Post;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
+
+    String EXPORT_FETCH_SIZE = "500";
+
+    @EntityGraph(attributePaths = "body")
+    Optional<Post> findWithBodyById(Long id);
+
+    @Query("select p.title from Post p where p.id = :id")
+    Optional<String> findTitleById(@Param("id") Long id);
+
+    /**
+     *  전체 글을 id 순으로 한 건씩 흘려보낸다.
+     *  - 트랜잭션 안에서 사용하고, 다 쓰면 close 해야 한다.
+     *  - MySQL 에서 커서로 받으려면 url 에 useCursorFetch=true 가 필요하다.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select p from Post p join fetch p.body order by p.id")
+    Stream<Post> streamAll();
 }
@@ -1,11 +1,54 @@
 package com.dunple.api.repository;
 
 import com.dunple.api.domain.Post;
+import com.dunple.api.domain.PostTitle;
+import com.dunple.api.domain.PostVersion;
+import com.dunple.api.request.PostField;
 import com.dunple.api.request.PostSearch;
+import com.dunple.api.response.PartialPostResponse;
+import com.dunple.api.response.PostResponse;
+import com.dunple.api.response.PostSummary;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface PostRepositoryCustom {
 
     List<Post> getList(PostSearch postSearch);
+
+    List<PostResponse> getResponseList(PostSearch postSearch);
+
+    List<PostResponse> getResponseList(Pageable pageable);
+
+    List<PostResponse> getListByCursor(PostSearch postSearch);
+
+    List<PostResponse> getResponsesByIds(Collection<Long> ids);
+
+    List<PostSummary> getSummaryList(PostSearch postSearch);
+
+    List<PartialPostResponse> getPartialList(PostSearch postSearch, Set<PostField> fields);
+
+    List<PartialPostResponse> getPartialList(Pageable pageable, Set<PostField> fields);
+
+    List<PartialPostResponse> getPartialListByCursor(PostSearch postSearch, Set<PostField> fields);
+
+    Optional<PartialPostResponse> findPartialById(Long id, Set<PostField> fields);
+
+    Optional<PostVersion> findVersionById(Long id);
+
+    Stream<PostTitle> streamTitles();
+
+    List<Long> getRecentFingerprints(int limit);
+
+    long editById(Long id, String title, String content, Long fingerprint, Collection<Long> versions);
+
+    List<Long> getIdsBetween(Long fromId, Long toId, int limit);
+
+    long deleteAllByIds(Collection<Long> ids);
+
+    long deleteById(Long id, Collection<Long> versions);
 }
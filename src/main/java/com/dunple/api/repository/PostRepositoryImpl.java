@@ -1,19 +1,55 @@
 package com.dunple.api.repository;
 
 import com.dunple.api.domain.Post;
+import com.dunple.api.domain.PostTitle;
+import com.dunple.api.domain.PostVersion;
+import com.dunple.api.exception.InvalidRequestException;
+import com.dunple.api.request.PostField;
 import com.dunple.api.request.PostSearch;
+import com.dunple.api.response.PartialPostResponse;
+import com.dunple.api.response.PostResponse;
+import com.dunple.api.response.PostSummary;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.dunple.api.domain.QPost.post;
+import static com.dunple.api.domain.QPostBody.postBody;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom{
 
+    private static final Map<String, ComparableExpressionBase<?>> SORTABLE = Map.of(
+        "id", post.id,
+        "title", post.title,
+        "modifiedAt", post.modifiedAt);
+
     private final JPAQueryFactory jpaQueryFactory;
 
     @Override
@@ -24,4 +60,283 @@ public class PostRepositoryImpl implements PostRepositoryCustom{
             .orderBy(post.id.desc())
             .fetch();
     }
+
+    // 목록 조회는 엔티티 대신 DTO 로 바로 뽑아서 영속성 컨텍스트/스냅샷 비용을 없앤다.
+    @Override
+    public List<PostResponse> getResponseList(PostSearch postSearch) {
+        return jpaQueryFactory.select(postResponse())
+            .from(post)
+            .join(post.body, postBody)
+            .limit(postSearch.getSize())
+            .offset(postSearch.getOffset())
+            .orderBy(post.id.desc())
+            .fetch();
+    }
+
+    @Override
+    public List<PostResponse> getResponseList(Pageable pageable) {
+        return jpaQueryFactory.select(postResponse())
+            .from(post)
+            .join(post.body, postBody)
+            .limit(pageable.getPageSize())
+            .offset(pageable.getOffset())
+            .orderBy(orderSpecifiers(pageable.getSort()))
+            .fetch();
+    }
+
+    @Override
+    public List<PostResponse> getListByCursor(PostSearch postSearch) {
+        // offset 없이 id 로 바로 찾아가므로 몇 번째 페이지든 비용이 같다.
+        return jpaQueryFactory.select(postResponse())
+            .from(post)
+            .join(post.body, postBody)
+            .where(ltPostId(postSearch.getLastId()))
+            .limit(postSearch.getCursorSize())
+            .orderBy(post.id.desc())
+            .fetch();
+    }
+
+    @Override
+    public List<PostResponse> getResponsesByIds(Collection<Long> ids) {
+        return jpaQueryFactory.select(postResponse())
+            .from(post)
+            .join(post.body, postBody)
+            .where(post.id.in(ids))
+            .fetch();
+    }
+
+    @Override
+    public List<PostSummary> getSummaryList(PostSearch postSearch) {
+        if (!postSearch.hasContent()) {
+            // 본문 테이블은 아예 건드리지 않는다.
+            return jpaQueryFactory.select(Projections.constructor(PostSummary.class, post.id, post.title))
+                .from(post)
+                .limit(postSearch.getSize())
+                .offset(postSearch.getOffset())
+                .orderBy(post.id.desc())
+                .fetch();
+        }
+
+        ConstructorExpression<PostSummary> summary = Projections.constructor(PostSummary.class,
+            post.id, post.title, postBody.content.substring(0, PostSummary.EXCERPT_LENGTH));
+
+        return jpaQueryFactory.select(summary)
+            .from(post)
+            .join(post.body, postBody)
+            .limit(postSearch.getSize())
+            .offset(postSearch.getOffset())
+            .orderBy(post.id.desc())
+            .fetch();
+    }
+
+    @Override
+    public List<PartialPostResponse> getPartialList(PostSearch postSearch, Set<PostField> fields) {
+        return partialQuery(fields)
+            .limit(postSearch.getSize())
+            .offset(postSearch.getOffset())
+            .orderBy(post.id.desc())
+            .fetch()
+            .stream()
+            .map(tuple -> toPartial(tuple, fields))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PartialPostResponse> getPartialList(Pageable pageable, Set<PostField> fields) {
+        return partialQuery(fields)
+            .limit(pageable.getPageSize())
+            .offset(pageable.getOffset())
+            .orderBy(orderSpecifiers(pageable.getSort()))
+            .fetch()
+            .stream()
+            .map(tuple -> toPartial(tuple, fields))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PartialPostResponse> getPartialListByCursor(PostSearch postSearch, Set<PostField> fields) {
+        return partialQuery(fields)
+            .where(ltPostId(postSearch.getLastId()))
+            .limit(postSearch.getCursorSize())
+            .orderBy(post.id.desc())
+            .fetch()
+            .stream()
+            .map(tuple -> toPartial(tuple, fields))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<PartialPostResponse> findPartialById(Long id, Set<PostField> fields) {
+        return Optional.ofNullable(partialQuery(fields)
+                .where(post.id.eq(id))
+                .fetchOne())
+            .map(tuple -> toPartial(tuple, fields));
+    }
+
+    // 요청한 필드의 컬럼만 select, 본문을 요청하지 않았으면 post_body 는 join 하지 않는다.
+    private JPAQuery<Tuple> partialQuery(Set<PostField> fields) {
+        List<Expression<?>> columns = new ArrayList<>();
+        columns.add(post.id);
+        if (fields.contains(PostField.TITLE)) {
+            columns.add(post.title);
+        }
+        if (fields.contains(PostField.CONTENT)) {
+            columns.add(postBody.content);
+        }
+
+        JPAQuery<Tuple> query = jpaQueryFactory.select(columns.toArray(new Expression<?>[0]))
+            .from(post);
+        if (fields.contains(PostField.CONTENT)) {
+            query.join(post.body, postBody);
+        }
+        return query;
+    }
+
+    private PartialPostResponse toPartial(Tuple tuple, Set<PostField> fields) {
+        return PartialPostResponse.builder()
+            .id(tuple.get(post.id))
+            .title(fields.contains(PostField.TITLE) ? tuple.get(post.title) : null)
+            .content(fields.contains(PostField.CONTENT) ? tuple.get(postBody.content) : null)
+            .build();
+    }
+
+    @Override
+    public Optional<PostVersion> findVersionById(Long id) {
+        return Optional.ofNullable(jpaQueryFactory
+            .select(Projections.constructor(PostVersion.class, post.id, post.version, post.modifiedAt))
+            .from(post)
+            .where(post.id.eq(id))
+            .fetchOne());
+    }
+
+    /**
+     *  엔티티를 읽지 않고 update 문으로 바로 수정한다.
+     *  - null 인 값은 수정하지 않고, 본문은 바뀔 때만 post_body 를 update 한다.
+     *  - 본문을 바꾸면 fingerprint 도 같이 바꾼다. (짧은 본문이면 null)
+     *  - 본문만 바뀌어도 post 의 version, modifiedAt 은 올린다.
+     *  - versions 가 있으면 그 중 하나와 현재 version 이 같을 때만 수정한다.
+     *  - 수정된 post 수를 반환 (없는 글이거나 version 이 다르면 0)
+     */
+    @Override
+    @Transactional
+    public long editById(Long id, String title, String content, Long fingerprint, Collection<Long> versions) {
+        JPAUpdateClause update = jpaQueryFactory.update(post)
+            .set(post.version, post.version.add(1))
+            .set(post.modifiedAt, LocalDateTime.now())
+            .where(post.id.eq(id), versionIn(versions));
+        if (title != null) {
+            update.set(post.title, title);
+        }
+        if (content != null) {
+            update.set(post.fingerprint, fingerprint);
+        }
+        long updated = update.execute();
+
+        if (updated > 0 && content != null) {
+            jpaQueryFactory.update(postBody)
+                .set(postBody.content, content)
+                .where(postBody.id.eq(JPAExpressions.select(post.body.id)
+                    .from(post)
+                    .where(post.id.eq(id))))
+                .execute();
+        }
+        return updated;
+    }
+
+    // 본문 없이 (id, 제목)만 흘려보낸다. 트랜잭션 안에서 사용하고 다 쓰면 close
+    @Override
+    public Stream<PostTitle> streamTitles() {
+        return jpaQueryFactory
+            .select(Projections.constructor(PostTitle.class, post.id, post.title))
+            .from(post)
+            .setHint(HINT_FETCH_SIZE, PostRepository.EXPORT_FETCH_SIZE)
+            .stream();
+    }
+
+    // 최신 글부터
+    @Override
+    public List<Long> getRecentFingerprints(int limit) {
+        return jpaQueryFactory.select(post.fingerprint)
+            .from(post)
+            .where(post.fingerprint.isNotNull())
+            .orderBy(post.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<Long> getIdsBetween(Long fromId, Long toId, int limit) {
+        return jpaQueryFactory.select(post.id)
+            .from(post)
+            .where(post.id.between(fromId, toId))
+            .orderBy(post.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    /**
+     *  엔티티를 읽지 않고 delete 문으로 바로 지운다.
+     *  - 본문(LOB)은 읽지 않고 body_id 만 조회해서 post 를 지운 뒤 같이 지운다.
+     *  - 지워진 post 수를 반환 (없는 id 는 세지 않음)
+     */
+    @Override
+    @Transactional
+    public long deleteAllByIds(Collection<Long> ids) {
+        return deleteWhere(post.id.in(ids));
+    }
+
+    @Override
+    @Transactional
+    public long deleteById(Long id, Collection<Long> versions) {
+        return deleteWhere(post.id.eq(id).and(versionIn(versions)));
+    }
+
+    private long deleteWhere(BooleanExpression condition) {
+        List<Long> bodyIds = jpaQueryFactory.select(post.body.id)
+            .from(post)
+            .where(condition)
+            .fetch();
+        if (bodyIds.isEmpty()) {
+            return 0;
+        }
+
+        long deleted = jpaQueryFactory.delete(post)
+            .where(condition)
+            .execute();
+        // 그 사이 수정돼서 post 가 남았다면 본문은 지우지 않는다.
+        jpaQueryFactory.delete(postBody)
+            .where(postBody.id.in(bodyIds), JPAExpressions.selectOne()
+                .from(post)
+                .where(post.body.id.eq(postBody.id))
+                .notExists())
+            .execute();
+        return deleted;
+    }
+
+    private ConstructorExpression<PostResponse> postResponse() {
+        return Projections.constructor(PostResponse.class,
+            post.id, post.title, postBody.content, post.viewCount, post.version, post.modifiedAt);
+    }
+
+    private BooleanExpression versionIn(Collection<Long> versions) {
+        return versions == null ? null : post.version.in(versions);
+    }
+
+    private BooleanExpression ltPostId(Long lastId) {
+        return lastId == null ? null : post.id.lt(lastId);
+    }
+
+    // 정렬할 수 있는 컬럼만 받는다. (그 외 값은 쿼리까지 가지 않고 400)
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        return sort.stream()
+            .map(order -> {
+                ComparableExpressionBase<?> column = SORTABLE.get(order.getProperty());
+                if (column == null) {
+                    throw new InvalidRequestException("sort", "정렬할 수 없는 필드입니다. (" + order.getProperty() + ")");
+                }
+                return new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, column);
+            })
+            .toArray(OrderSpecifier[]::new);
+    }
 }
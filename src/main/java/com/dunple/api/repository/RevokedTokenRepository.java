@@ -0,0 +1,17 @@
+package com.dunple.api.repository;
+
+import com.dunple.api.domain.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt <= :now")
+    int deleteExpired(LocalDateTime now);
+}
@@ -1,10 +1,38 @@
 package com.dunple.api.repository;
 
 import com.dunple.api.domain.Session;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface SessionRepository extends JpaRepository<Session, Long> {
+
     Optional<Session> findByAccessToken(String accessToken);
+
+    // 사용자 세션 수 제한용, 최신 순 (user 는 읽지 않는다)
+    @Query("select s from Session s where s.user.id = :userId order by s.id desc")
+    List<Session> findLatestByUserId(Long userId, Pageable pageable);
+
+    // 만료 sweep 용, 각각 created_at / last_accessed_at index 만 타도록 조건을 나눈다.
+    @Query("select s from Session s where s.createdAt < :createdBefore")
+    List<Session> findCreatedBefore(LocalDateTime createdBefore, Pageable pageable);
+
+    @Query("select s from Session s where s.lastAccessedAt < :accessedBefore")
+    List<Session> findAccessedBefore(LocalDateTime accessedBefore, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Session s where s.accessToken = :accessToken")
+    int deleteByAccessToken(String accessToken);
+
+    @Transactional
+    @Modifying
+    @Query("update Session s set s.lastAccessedAt = :accessedAt where s.id = :id")
+    int touch(Long id, LocalDateTime accessedAt);
 }
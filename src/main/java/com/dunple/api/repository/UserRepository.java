@@ -1,13 +1,28 @@
 package com.dunple.api.repository;
 
 import com.dunple.api.domain.User;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface UserRepository extends CrudRepository<User, Long> {
 
     Optional<User> findByEmailAndPassword(String email, String password);
 
     Optional<User> findByEmail(String Email);
+
+    boolean existsByEmail(String email);
+
+    String EMAIL_FETCH_SIZE = "1000";
+
+    // 트랜잭션 안에서 사용하고, 다 쓰면 close 해야 한다.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EMAIL_FETCH_SIZE))
+    @Query("select u.email from User u")
+    Stream<String> streamAllEmails();
 }
@@ -0,0 +1,29 @@
+package com.dunple.api.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@ToString
+@NoArgsConstructor
+public class PostBulkCreate {
+
+    public static final int MAX_SIZE = 5000;
+
+    @Valid
+    @NotEmpty(message = "등록할 글을 입력해주세요.")
+    @Size(max = MAX_SIZE, message = "한 번에 5000개까지 등록할 수 있습니다.")
+    private List<PostCreate> posts;
+
+    @Builder
+    public PostBulkCreate(List<PostCreate> posts) {
+        this.posts = posts;
+    }
+}
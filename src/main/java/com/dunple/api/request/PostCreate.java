@@ -1,6 +1,5 @@
 package com.dunple.api.request;
 
-import com.dunple.api.exception.InvalidRequestException;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,10 +23,4 @@ public class PostCreate {
         this.title = title;
         this.content = content;
     }
-
-    public void validate() {
-        if (title.contains("바보")) {
-            throw new InvalidRequestException();
-        }
-    }
 }
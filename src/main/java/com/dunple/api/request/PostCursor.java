@@ -0,0 +1,38 @@
+package com.dunple.api.request;
+
+import com.dunple.api.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ *  커서 페이징용 커서 값
+ *  - 클라이언트는 내용을 해석하지 않고 nextCursor 를 그대로 다시 보내기만 하면 된다.
+ */
+public final class PostCursor {
+
+    private static final String PREFIX = "post:";
+
+    private PostCursor() {
+    }
+
+    public static String encode(long lastId) {
+        byte[] bytes = (PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(value);
+            }
+            return Long.parseLong(value.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("cursor", "올바르지 않은 커서입니다.");
+        }
+    }
+}
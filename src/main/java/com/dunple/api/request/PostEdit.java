@@ -1,19 +1,24 @@
 package com.dunple.api.request;
 
+import com.dunple.api.exception.InvalidRequestException;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
 
+/**
+ *  PATCH 요청
+ *  - 보내지 않은(null) 필드는 수정하지 않는다.
+ */
 @Getter
 @NoArgsConstructor
 public class PostEdit {
 
-    @NotBlank(message = "제목을 입력해주세요.")
+    @Pattern(regexp = "(?s).*\\S.*", message = "제목을 입력해주세요.")
     private String title;
 
-    @NotBlank(message = "내용을 입력해주세요.")
+    @Pattern(regexp = "(?s).*\\S.*", message = "내용을 입력해주세요.")
     private String content;
 
     @Builder
@@ -21,4 +26,18 @@ public class PostEdit {
         this.title = title;
         this.content = content;
     }
+
+    public boolean hasTitle() {
+        return title != null;
+    }
+
+    public boolean hasContent() {
+        return content != null;
+    }
+
+    public void validate() {
+        if (!hasTitle() && !hasContent()) {
+            throw new InvalidRequestException("title", "수정할 내용을 입력해주세요.");
+        }
+    }
 }
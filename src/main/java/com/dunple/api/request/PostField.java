@@ -0,0 +1,44 @@
+package com.dunple.api.request;
+
+import com.dunple.api.exception.InvalidRequestException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ *  ?fields=id,title 처럼 응답에 담을 필드 선택
+ *  - id 는 항상 포함
+ */
+public enum PostField {
+
+    ID("id"),
+    TITLE("title"),
+    CONTENT("content"),
+    VIEW_COUNT("viewCount");
+
+    private final String fieldName;
+
+    PostField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public static Set<PostField> parse(String fields) {
+        Set<PostField> result = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(of(trimmed));
+            }
+        }
+        return result;
+    }
+
+    private static PostField of(String name) {
+        for (PostField field : values()) {
+            if (field.fieldName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new InvalidRequestException("fields", "지원하지 않는 필드입니다. (" + name + ")");
+    }
+}
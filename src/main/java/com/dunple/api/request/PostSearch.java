@@ -4,19 +4,44 @@ import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
 public class PostSearch {
 
     private static final int MAX_SIZE = 2000;
     private static final int MIN_PAGE = 1;
+    private static final int DEFAULT_SIZE = 10;
 
-    @Builder.Default
-    private Integer page = 1;
+    private final Integer page;
 
-    @Builder.Default
-    private Integer size = 10;
+    private final Integer size;
+
+    // 커서 모드 - 이전 응답의 nextCursor, 없으면 첫 페이지
+    private final String cursor;
+
+    // 목록 요약 조회 시 본문 일부(excerpt)를 같이 내려줄지 여부
+    private final Boolean withContent;
+
+    // 요청 파라미터는 생성자로 바인딩되므로 빠진 값(null)은 여기서 기본값으로 채운다.
+    @Builder
+    public PostSearch(Integer page, Integer size, String cursor, Boolean withContent) {
+        this.page = page == null ? MIN_PAGE : page;
+        this.size = size == null ? DEFAULT_SIZE : size;
+        this.cursor = cursor;
+        this.withContent = withContent == null || withContent;
+    }
 
     public long getOffset() {
-        return (long) (Math.max(MIN_PAGE, page) - 1) * MAX_SIZE;
+        return (long) (Math.max(MIN_PAGE, page) - 1) * size;
+    }
+
+    public Long getLastId() {
+        return PostCursor.decode(cursor);
+    }
+
+    public boolean hasContent() {
+        return withContent;
+    }
+
+    public int getCursorSize() {
+        return Math.min(size, MAX_SIZE);
     }
 }
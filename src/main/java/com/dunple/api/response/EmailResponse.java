@@ -0,0 +1,17 @@
+package com.dunple.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class EmailResponse {
+
+    private final String email;
+    private final boolean exists;
+
+    @Builder
+    public EmailResponse(String email, boolean exists) {
+        this.email = email;
+        this.exists = exists;
+    }
+}
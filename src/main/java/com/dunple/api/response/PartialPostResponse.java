@@ -0,0 +1,44 @@
+package com.dunple.api.response;
+
+import com.dunple.api.request.PostField;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ *  ?fields= 로 일부 필드만 요청했을 때의 응답
+ *  - 요청하지 않은 필드는 JSON 에서 빠진다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartialPostResponse {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final Long viewCount;
+
+    @Builder
+    public PartialPostResponse(Long id, String title, String content, Long viewCount) {
+        this.id = id;
+        this.title = title == null ? null : title.substring(0, Math.min(title.length(), 12));
+        this.content = content;
+        this.viewCount = viewCount;
+    }
+
+    public static PartialPostResponse of(PostResponse post, Set<PostField> fields) {
+        return PartialPostResponse.builder()
+            .id(post.getId())
+            .title(fields.contains(PostField.TITLE) ? post.getTitle() : null)
+            .content(fields.contains(PostField.CONTENT) ? post.getContent() : null)
+            .viewCount(fields.contains(PostField.VIEW_COUNT) ? post.getViewCount() : null)
+            .build();
+    }
+
+    // 조회수는 DB 에서 읽지 않고 응답할 때 PostViewCounter 의 값으로 채운다.
+    public PartialPostResponse withViewCount(long viewCount) {
+        return new PartialPostResponse(id, title, content, viewCount);
+    }
+}
@@ -0,0 +1,20 @@
+package com.dunple.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 조회에서 ?fields= 로 일부 필드만 요청했을 때의 응답
+@Getter
+public class PartialPostSliceResponse {
+
+    private final List<PartialPostResponse> posts;
+    private final String nextCursor;
+
+    @Builder
+    public PartialPostSliceResponse(List<PartialPostResponse> posts, String nextCursor) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,17 @@
+package com.dunple.api.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PostBulkResponse {
+
+    private final int count;
+    private final List<Long> ids;
+
+    public PostBulkResponse(List<Long> ids) {
+        this.count = ids.size();
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,13 @@
+package com.dunple.api.response;
+
+import lombok.Getter;
+
+@Getter
+public class PostDeleteResponse {
+
+    private final long count;
+
+    public PostDeleteResponse(long count) {
+        this.count = count;
+    }
+}
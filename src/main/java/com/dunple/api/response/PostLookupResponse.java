@@ -0,0 +1,29 @@
+package com.dunple.api.response;
+
+import lombok.Getter;
+
+/**
+ *  여러 글 한번에 조회 응답의 한 항목
+ *  - 없는 글은 found = false, post = null
+ */
+@Getter
+public class PostLookupResponse {
+
+    private final long id;
+    private final boolean found;
+    private final PostResponse post;
+
+    private PostLookupResponse(long id, boolean found, PostResponse post) {
+        this.id = id;
+        this.found = found;
+        this.post = post;
+    }
+
+    public static PostLookupResponse found(PostResponse post) {
+        return new PostLookupResponse(post.getId(), true, post);
+    }
+
+    public static PostLookupResponse notFound(long id) {
+        return new PostLookupResponse(id, false, null);
+    }
+}
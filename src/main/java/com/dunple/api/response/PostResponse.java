@@ -1,26 +1,50 @@
 package com.dunple.api.response;
 
 import com.dunple.api.domain.Post;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class PostResponse {
 
     private final long id;
     private final String title;
     private final String content;
+    private final long viewCount;
+
+    // 응답 본문이 아니라 ETag / Last-Modified 헤더로 내려간다.
+    @JsonIgnore
+    private final Long version;
+    @JsonIgnore
+    private final LocalDateTime modifiedAt;
 
     public PostResponse(Post post) {
         this.id = post.getId();
         this.title = post.getTitle().substring(0, Math.min(post.getTitle().length(), 12));
         this.content = post.getContent();
+        this.viewCount = post.getViewCount();
+        this.version = post.getVersion();
+        this.modifiedAt = post.getModifiedAt();
     }
 
     @Builder
-    public PostResponse(long id, String title, String content) {
+    public PostResponse(long id, String title, String content, long viewCount, Long version, LocalDateTime modifiedAt) {
         this.id = id;
         this.title = title.substring(0, Math.min(title.length(), 12));
         this.content = content;
+        this.viewCount = viewCount;
+        this.version = version;
+        this.modifiedAt = modifiedAt;
+    }
+
+    // 캐시된 응답의 조회수는 읽은 때의 값이라 응답할 때 지금 조회수로 바꾼다.
+    public PostResponse withViewCount(long viewCount) {
+        if (this.viewCount == viewCount) {
+            return this;
+        }
+        return new PostResponse(id, title, content, viewCount, version, modifiedAt);
     }
 }
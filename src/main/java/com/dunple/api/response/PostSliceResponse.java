@@ -0,0 +1,19 @@
+package com.dunple.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PostSliceResponse {
+
+    private final List<PostResponse> posts;
+    private final String nextCursor;
+
+    @Builder
+    public PostSliceResponse(List<PostResponse> posts, String nextCursor) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dunple.api.response;
+
+import lombok.Getter;
+
+@Getter
+public class PostSuggestion {
+
+    private final Long id;
+    private final String title;
+
+    public PostSuggestion(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+}
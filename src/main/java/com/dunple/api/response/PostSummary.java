@@ -0,0 +1,27 @@
+package com.dunple.api.response;
+
+import lombok.Getter;
+
+/**
+ *  목록 전용 응답
+ *  - 엔티티를 거치지 않고 QueryDSL Projection 으로 바로 만들어진다.
+ */
+@Getter
+public class PostSummary {
+
+    public static final int EXCERPT_LENGTH = 100;
+
+    private final long id;
+    private final String title;
+    private final String excerpt;
+
+    public PostSummary(Long id, String title) {
+        this(id, title, null);
+    }
+
+    public PostSummary(Long id, String title, String excerpt) {
+        this.id = id;
+        this.title = title.substring(0, Math.min(title.length(), 12));
+        this.excerpt = excerpt;
+    }
+}
@@ -0,0 +1,48 @@
+package com.dunple.api.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ *  글자 2개씩 잘라서 검색어로 쓴다. (bigram)
+ *  - 한글은 띄어쓰기/조사 때문에 단어 단위로 자르면 "미카공주님은" 에서 "공주" 를 못 찾는다.
+ *  - 글자/숫자가 이어진 구간마다 자르고, 한 글자짜리 구간은 그대로 쓴다.
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    // 검색어 -> 등장 횟수
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        if (text == null) {
+            return frequencies;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                addRun(normalized, start, i, frequencies);
+                start = -1;
+            }
+        }
+        return frequencies;
+    }
+
+    private static void addRun(String text, int from, int to, Map<String, Integer> frequencies) {
+        if (to - from == 1) {
+            frequencies.merge(text.substring(from, to), 1, Integer::sum);
+            return;
+        }
+        for (int i = from; i + 2 <= to; i++) {
+            frequencies.merge(text.substring(i, i + 2), 1, Integer::sum);
+        }
+    }
+}
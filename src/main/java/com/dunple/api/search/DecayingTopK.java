@@ -0,0 +1,157 @@
+package com.dunple.api.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ *  시간이 지날수록 점수가 반감기마다 절반씩 줄어드는 상위 K 개 (스레드 안전하지 않음)
+ *  - forward decay: 이벤트 가중치를 2^((t - landmark) / halfLife) 배 키워서 더하므로 이미 쌓인 점수는 건드리지 않는다.
+ *  - 점수는 더해지기만 하므로 top 안에서는 위로만 자리를 바꾸면 된다. (상위 K 개 조회는 O(K))
+ *  - 가중치가 계속 커지므로 rescale 로 landmark 를 지금으로 옮기면서 전체 점수를 같은 비율로 줄인다.
+ *  - 후보가 capacity 를 넘으면 top 밖에서 점수 낮은 것부터 절반을 버린다.
+ */
+public class DecayingTopK {
+
+    // 2^64 배 이상 커지기 전에 rescale (double 로 충분히 정밀한 범위)
+    private static final double MAX_EXPONENT = 64;
+    // 이보다 작아진 후보는 rescale 때 버린다. (한 번 조회된 글이 반감기 20번쯤 지난 정도)
+    private static final double MIN_SCORE = 1e-6;
+
+    private final int k;
+    private final int capacity;
+    private final double halfLifeMillis;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final List<Entry> top = new ArrayList<>();
+    private long landmark;
+
+    public DecayingTopK(int k, int capacity, Duration halfLife, long now) {
+        if (capacity < k * 2) {
+            throw new IllegalArgumentException("capacity 는 k 의 두 배 이상이어야 합니다.");
+        }
+        this.k = k;
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.landmark = now;
+    }
+
+    // now 시점에 weight 만큼 더한다.
+    public void add(long id, double weight, long now) {
+        if (exponent(now) > MAX_EXPONENT) {
+            rescale(now);
+        }
+
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            if (entries.size() >= capacity) {
+                prune();
+            }
+            entry = new Entry(id);
+            entries.put(id, entry);
+        }
+        entry.score += weight * Math.pow(2, exponent(now));
+        promote(entry);
+    }
+
+    public void remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null || entry.rank < 0) {
+            return;
+        }
+
+        top.remove(entry.rank);
+        for (int i = entry.rank; i < top.size(); i++) {
+            top.get(i).rank = i;
+        }
+        // top 밖에서 제일 높은 후보로 빈자리를 채운다.
+        entries.values().stream()
+            .filter(candidate -> candidate.rank < 0)
+            .max(Comparator.comparingDouble(candidate -> candidate.score))
+            .ifPresent(this::promote);
+    }
+
+    // 점수 높은 순서의 id
+    public List<Long> top(int size) {
+        return top.subList(0, Math.min(size, top.size())).stream()
+            .map(entry -> entry.id)
+            .collect(Collectors.toList());
+    }
+
+    // now 시점 기준으로 줄어든 점수 (snapshot 용)
+    public Map<Long, Double> scores(long now) {
+        double factor = Math.pow(2, -exponent(now));
+        Map<Long, Double> scores = new HashMap<>();
+        entries.forEach((id, entry) -> scores.put(id, entry.score * factor));
+        return scores;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 전체 점수를 now 기준으로 줄이고 landmark 를 옮긴다. 같은 비율이라 순서는 바뀌지 않는다.
+    public void rescale(long now) {
+        double factor = Math.pow(2, -exponent(now));
+        landmark = now;
+        entries.values().removeIf(entry -> {
+            entry.score *= factor;
+            return entry.rank < 0 && entry.score < MIN_SCORE;
+        });
+    }
+
+    private double exponent(long now) {
+        return (now - landmark) / halfLifeMillis;
+    }
+
+    private void promote(Entry entry) {
+        if (entry.rank < 0) {
+            if (top.size() < k) {
+                entry.rank = top.size();
+                top.add(entry);
+            } else {
+                Entry last = top.get(k - 1);
+                if (last.score >= entry.score) {
+                    return;
+                }
+                last.rank = -1;
+                entry.rank = k - 1;
+                top.set(k - 1, entry);
+            }
+        }
+
+        while (entry.rank > 0 && top.get(entry.rank - 1).score < entry.score) {
+            Entry above = top.get(entry.rank - 1);
+            top.set(entry.rank, above);
+            top.set(entry.rank - 1, entry);
+            above.rank = entry.rank;
+            entry.rank--;
+        }
+    }
+
+    private void prune() {
+        List<Entry> candidates = entries.values().stream()
+            .filter(entry -> entry.rank < 0)
+            .sorted(Comparator.comparingDouble(entry -> entry.score))
+            .collect(Collectors.toList());
+        int drop = Math.min(candidates.size(), entries.size() - capacity / 2);
+        for (int i = 0; i < drop; i++) {
+            entries.remove(candidates.get(i).id);
+        }
+    }
+
+    private static class Entry {
+
+        private final long id;
+        private double score;
+        // top 안에서의 위치, 밖이면 -1
+        private int rank = -1;
+
+        private Entry(long id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.dunple.api.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ *  bigram 역색인 + BM25 점수
+ *  - 글마다 내부 문서 번호(int)를 붙이고, 수정은 기존 번호를 지우고 새 번호로 다시 넣는다.
+ *  - 지운 문서는 표시만 해 두고 어느 정도 쌓이면 번호를 다시 매겨서 정리한다.
+ *  - 동기화하지 않으므로 PostSearchIndex 에서 락을 잡고 사용한다.
+ */
+class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_DELETED_TO_COMPACT = 1024;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docsByPostId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] postIds = new long[16];
+    private int[] lengths = new int[16];
+    private int docCount;
+    private int deletedCount;
+    private long totalLength;
+
+    void put(long postId, String text) {
+        remove(postId);
+
+        Map<String, Integer> frequencies = BigramTokenizer.termFrequencies(text);
+        int doc = docCount++;
+        if (doc == postIds.length) {
+            postIds = Arrays.copyOf(postIds, doc * 2);
+            lengths = Arrays.copyOf(lengths, doc * 2);
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(doc, entry.getValue());
+            length += entry.getValue();
+        }
+        postIds[doc] = postId;
+        lengths[doc] = length;
+        totalLength += length;
+        docsByPostId.put(postId, doc);
+    }
+
+    boolean contains(long postId) {
+        return docsByPostId.containsKey(postId);
+    }
+
+    void remove(long postId) {
+        Integer doc = docsByPostId.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        deletedCount++;
+        totalLength -= lengths[doc];
+
+        if (deletedCount >= MIN_DELETED_TO_COMPACT && deletedCount * 4 >= docCount) {
+            compact();
+        }
+    }
+
+    int size() {
+        return docsByPostId.size();
+    }
+
+    List<SearchHit> search(String query, int limit) {
+        int live = size();
+        if (live == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        double averageLength = Math.max(1.0, (double) totalLength / live);
+        Map<Integer, Double> scores = new HashMap<>();
+        for (String term : BigramTokenizer.termFrequencies(query).keySet()) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            // 지운 문서가 정리되기 전까지는 df 에 포함되지만 그 비율은 compact 로 제한된다.
+            int df = Math.min(list.size(), live);
+            double idf = Math.log(1 + (live - df + 0.5) / (df + 0.5));
+            for (int i = 0; i < list.size(); i++) {
+                int doc = list.doc(i);
+                if (deleted.get(doc)) {
+                    continue;
+                }
+                double tf = list.frequency(i);
+                double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * lengths[doc] / averageLength));
+                scores.merge(doc, idf * norm, Double::sum);
+            }
+        }
+        return top(scores, limit);
+    }
+
+    // 점수 높은 순, 같으면 최신 글(문서 번호가 큰 쪽) 먼저
+    private List<SearchHit> top(Map<Integer, Double> scores, int limit) {
+        Comparator<Map.Entry<Integer, Double>> order = Map.Entry.<Integer, Double>comparingByValue()
+            .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Integer, Double>> heap = new PriorityQueue<>(order);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            heap.add(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<Integer, Double> entry = heap.poll();
+            hits.add(new SearchHit(postIds[entry.getKey()], entry.getValue()));
+        }
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    private void compact() {
+        int[] remap = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = live;
+            postIds[live] = postIds[doc];
+            lengths[live] = lengths[doc];
+            docsByPostId.put(postIds[live], live);
+            live++;
+        }
+
+        Iterator<Map.Entry<String, PostingList>> iterator = postings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PostingList> entry = iterator.next();
+            PostingList compacted = entry.getValue().compact(remap);
+            if (compacted.size() == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(compacted);
+            }
+        }
+
+        docCount = live;
+        deletedCount = 0;
+        deleted.clear();
+    }
+}
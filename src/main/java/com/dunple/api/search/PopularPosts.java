@@ -0,0 +1,134 @@
+package com.dunple.api.search;
+
+import com.dunple.api.cache.AfterCommit;
+import com.dunple.api.config.PopularPostProperties;
+import com.dunple.api.domain.PostPopularity;
+import com.dunple.api.repository.PostPopularityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  인기글 (조회/수정이 최근에 많은 순)
+ *  - PostService 의 조회/수정 이벤트로 DecayingTopK 를 바로 갱신하고, 조회는 메모리에서 O(K) 로 응답
+ *  - rescaleInterval 마다 점수를 지금 기준으로 줄여서 가중치가 끝없이 커지지 않게 한다.
+ *  - snapshotInterval 마다, 그리고 종료할 때 점수를 post_popularity 에 저장하고 기동할 때 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class PopularPosts implements SchedulingConfigurer {
+
+    private static final String DELETE_SQL = "delete from post_popularity";
+    private static final String INSERT_SQL = "insert into post_popularity (post_id, score, saved_at) values (?, ?, ?)";
+    private static final int SNAPSHOT_BATCH_SIZE = 500;
+
+    private final PopularPostProperties properties;
+    private final PostPopularityRepository postPopularityRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DecayingTopK ranking;
+
+    public PopularPosts(PopularPostProperties properties, PostPopularityRepository postPopularityRepository,
+                        JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.postPopularityRepository = postPopularityRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ranking = new DecayingTopK(properties.getSize(), properties.getCapacity(),
+            properties.getHalfLife(), System.currentTimeMillis());
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::rescale, properties.getRescaleInterval().toMillis());
+        taskRegistrar.addFixedDelayTask(this::snapshot, properties.getSnapshotInterval().toMillis());
+    }
+
+    // 저장된 점수를 지금까지 지난 시간만큼 더 줄여서 넣는다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<PostPopularity> saved = postPopularityRepository.findAll();
+        long now = System.currentTimeMillis();
+        double halfLife = properties.getHalfLife().toMillis();
+        synchronized (ranking) {
+            for (PostPopularity popularity : saved) {
+                long savedAt = popularity.getSavedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                double decayed = popularity.getScore() * Math.pow(2, -Math.max(0, now - savedAt) / halfLife);
+                ranking.add(popularity.getPostId(), decayed, now);
+            }
+        }
+        log.info("인기글 점수 불러오기 완료: {}건", saved.size());
+    }
+
+    public void onView(Long id) {
+        add(id, 1);
+    }
+
+    public void onEdit(Long id) {
+        AfterCommit.execute(() -> add(id, properties.getEditWeight()));
+    }
+
+    public void onDelete(Long id) {
+        AfterCommit.execute(() -> {
+            synchronized (ranking) {
+                ranking.remove(id);
+            }
+        });
+    }
+
+    // top() 이 돌려주는 최대 개수
+    public int maxSize() {
+        return properties.getSize();
+    }
+
+    // 점수 높은 순서의 글 id (최대 size 개)
+    public List<Long> top() {
+        synchronized (ranking) {
+            return ranking.top(properties.getSize());
+        }
+    }
+
+    public void rescale() {
+        synchronized (ranking) {
+            ranking.rescale(System.currentTimeMillis());
+        }
+    }
+
+    @PreDestroy
+    public void snapshot() {
+        long now = System.currentTimeMillis();
+        Map<Long, Double> scores;
+        synchronized (ranking) {
+            scores = ranking.scores(now);
+        }
+
+        Timestamp savedAt = new Timestamp(now);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_SQL);
+            jdbcTemplate.batchUpdate(INSERT_SQL, scores.entrySet(), SNAPSHOT_BATCH_SIZE, (ps, score) -> {
+                ps.setLong(1, score.getKey());
+                ps.setDouble(2, score.getValue());
+                ps.setTimestamp(3, savedAt);
+            });
+        });
+    }
+
+    private void add(Long id, double weight) {
+        long now = System.currentTimeMillis();
+        synchronized (ranking) {
+            ranking.add(id, weight, now);
+        }
+    }
+}
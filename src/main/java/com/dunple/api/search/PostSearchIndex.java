@@ -0,0 +1,115 @@
+package com.dunple.api.search;
+
+import com.dunple.api.cache.AfterCommit;
+import com.dunple.api.domain.Post;
+import com.dunple.api.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ *  글 제목 + 본문 검색용 메모리 역색인
+ *  - 기동할 때 전체 글로 만들고, 이후에는 작성/수정/삭제가 커밋된 뒤 해당 글만 반영한다.
+ *  - 검색은 읽기 락, 반영은 쓰기 락
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final InvertedIndex index = new InvertedIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 기동 직후 들어온 작성/수정이 먼저 반영됐을 수 있으므로 이미 있는 글은 건너뛴다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        try (Stream<Post> posts = postRepository.streamAll()) {
+            posts.forEach(post -> {
+                putIfAbsent(post.getId(), post.getTitle(), post.getContent());
+                entityManager.detach(post);
+            });
+        }
+        log.info("게시글 검색 색인 완료: {}건", size());
+    }
+
+    public List<Long> search(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, limit).stream()
+                .map(SearchHit::getPostId)
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void onWrite(Post post) {
+        onWrite(List.of(post));
+    }
+
+    // 새로 만든 엔티티라 본문까지 들고 있으므로 다시 읽지 않는다.
+    public void onWrite(List<Post> posts) {
+        List<Post> written = List.copyOf(posts);
+        AfterCommit.execute(() -> written.forEach(post -> put(post.getId(), post.getTitle(), post.getContent())));
+    }
+
+    // 수정 후 트랜잭션 안에서 들고 있는 전체 제목/본문을 받는다. (응답 DTO 의 제목은 잘려 있어서 쓰지 않는다)
+    public void onEdit(Long id, String title, String content) {
+        AfterCommit.execute(() -> put(id, title, content));
+    }
+
+    public void onDelete(Long id) {
+        AfterCommit.execute(() -> remove(id));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long id, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            index.put(id, title + "\n" + content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putIfAbsent(Long id, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            if (!index.contains(id)) {
+                index.put(id, title + "\n" + content);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            index.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
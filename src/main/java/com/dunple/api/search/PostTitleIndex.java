@@ -0,0 +1,124 @@
+package com.dunple.api.search;
+
+import com.dunple.api.cache.AfterCommit;
+import com.dunple.api.domain.PostTitle;
+import com.dunple.api.repository.PostRepository;
+import com.dunple.api.response.PostSuggestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ *  제목 자동완성 색인
+ *  - 대소문자/전각 문자를 맞춘 제목으로 radix trie 를 만들고, 같은 prefix 중 최신 글(id 가 큰 순)부터 돌려준다.
+ *  - 기동할 때 (id, 제목)만 읽어서 만들고, 작성/제목 수정/삭제가 커밋된 뒤 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTitleIndex {
+
+    private final PostRepository postRepository;
+    private final RadixTrie trie = new RadixTrie();
+    // 제목이 바뀌거나 지워질 때 trie 에서 뺄 키를 찾기 위한 원래 제목
+    private final Map<Long, String> titles = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        try (Stream<PostTitle> posts = postRepository.streamTitles()) {
+            posts.forEach(post -> {
+                lock.writeLock().lock();
+                try {
+                    if (!titles.containsKey(post.getId())) {
+                        add(post.getId(), post.getTitle());
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        }
+        log.info("게시글 제목 자동완성 색인 완료: {}건", size());
+    }
+
+    public List<PostSuggestion> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return trie.suggest(normalize(prefix), limit).stream()
+                .map(id -> new PostSuggestion(id, titles.get(id)))
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void onWrite(Long id, String title) {
+        AfterCommit.execute(() -> put(id, title));
+    }
+
+    public void onWrite(List<PostTitle> posts) {
+        AfterCommit.execute(() -> posts.forEach(post -> put(post.getId(), post.getTitle())));
+    }
+
+    public void onDelete(Long id) {
+        AfterCommit.execute(() -> remove(id));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trie.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long id, String title) {
+        lock.writeLock().lock();
+        try {
+            removeTitle(id);
+            add(id, title);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeTitle(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Long id, String title) {
+        titles.put(id, title);
+        trie.add(normalize(title), id);
+    }
+
+    private void removeTitle(Long id) {
+        String previous = titles.remove(id);
+        if (previous != null) {
+            trie.remove(normalize(previous), id);
+        }
+    }
+
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+    }
+}
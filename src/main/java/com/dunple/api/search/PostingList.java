@@ -0,0 +1,56 @@
+package com.dunple.api.search;
+
+import java.util.Arrays;
+
+/**
+ *  검색어 하나가 등장한 문서 번호와 등장 횟수
+ *  - 문서 번호는 추가된 순서대로 커지므로 따로 정렬하지 않는다.
+ *  - 박싱 없이 int 배열 두 개로 들고 있는다.
+ */
+final class PostingList {
+
+    private int[] docs = new int[2];
+    private int[] frequencies = new int[2];
+    private int size;
+
+    void add(int doc, int frequency) {
+        if (size == docs.length) {
+            int capacity = size + (size >> 1) + 1;
+            docs = Arrays.copyOf(docs, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+        docs[size] = doc;
+        frequencies[size] = frequency;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int doc(int index) {
+        return docs[index];
+    }
+
+    int frequency(int index) {
+        return frequencies[index];
+    }
+
+    // remap[doc] 이 -1 인 문서는 빼고 번호를 새로 매긴 목록
+    PostingList compact(int[] remap) {
+        PostingList compacted = new PostingList();
+        compacted.docs = new int[size];
+        compacted.frequencies = new int[size];
+        for (int i = 0; i < size; i++) {
+            int doc = remap[docs[i]];
+            if (doc >= 0) {
+                compacted.docs[compacted.size] = doc;
+                compacted.frequencies[compacted.size] = frequencies[i];
+                compacted.size++;
+            }
+        }
+        compacted.docs = Arrays.copyOf(compacted.docs, compacted.size);
+        compacted.frequencies = Arrays.copyOf(compacted.frequencies, compacted.size);
+        return compacted;
+    }
+}
@@ -0,0 +1,254 @@
+package com.dunple.api.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ *  제목 -> 글 id 목록 radix trie
+ *  - 자식이 하나뿐인 노드는 합쳐서 간선에 문자열을 붙인다.
+ *  - 노드마다 하위 트리에서 가장 큰(최신) id 를 들고 있어서 prefix 아래를 다 보지 않고 최신 k 개를 꺼낸다.
+ *  - 동기화하지 않으므로 PostTitleIndex 에서 락을 잡고 사용한다.
+ */
+class RadixTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final long[] NO_IDS = new long[0];
+
+    private final Node root = new Node("");
+    private int size;
+
+    void add(String key, long id) {
+        Node node = root;
+        node.maxId = Math.max(node.maxId, id);
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.indexOf(key.charAt(i));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(i));
+                leaf.ids = new long[]{id};
+                leaf.maxId = id;
+                node.insertChild(-index - 1, leaf);
+                size++;
+                return;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                child = split(node, index, common);
+            }
+            child.maxId = Math.max(child.maxId, id);
+            node = child;
+            i += common;
+        }
+        node.ids = insertSorted(node.ids, id);
+        size++;
+    }
+
+    void remove(String key, long id) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = node.indexOf(key.charAt(i));
+            if (index < 0) {
+                return;
+            }
+            Node child = node.children[index];
+            if (!key.startsWith(child.label, i)) {
+                return;
+            }
+            node = child;
+            path.add(node);
+            i += child.label.length();
+        }
+
+        int position = Arrays.binarySearch(node.ids, id);
+        if (position < 0) {
+            return;
+        }
+        node.ids = removeAt(node.ids, position);
+        size--;
+
+        // 비거나 자식 하나만 남은 노드를 정리하면서 maxId 를 다시 계산
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node current = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (current.ids.length == 0 && current.children.length == 0) {
+                parent.removeChild(current);
+            } else if (current.ids.length == 0 && current.children.length == 1) {
+                Node only = current.children[0];
+                current.label = current.label + only.label;
+                current.ids = only.ids;
+                current.children = only.children;
+            }
+            current.updateMaxId();
+        }
+        root.updateMaxId();
+    }
+
+    int size() {
+        return size;
+    }
+
+    // prefix 로 시작하는 키의 id 를 큰 순서대로 limit 개
+    List<Long> suggest(String prefix, int limit) {
+        Node node = locate(prefix);
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Comparator.comparingLong((Candidate c) -> c.key).reversed());
+        queue.add(new Candidate(node.maxId, node));
+        List<Long> ids = new ArrayList<>(limit);
+        while (!queue.isEmpty() && ids.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.node == null) {
+                ids.add(candidate.key);
+                continue;
+            }
+            for (long id : candidate.node.ids) {
+                queue.add(new Candidate(id, null));
+            }
+            for (Node child : candidate.node.children) {
+                queue.add(new Candidate(child.maxId, child));
+            }
+        }
+        return ids;
+    }
+
+    private Node locate(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int index = node.indexOf(prefix.charAt(i));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, prefix, i);
+            if (i + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            i += common;
+        }
+        return node;
+    }
+
+    // children[index] 의 간선을 앞 length 글자에서 나눈다.
+    private Node split(Node parent, int index, int length) {
+        Node child = parent.children[index];
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children = new Node[]{child};
+        middle.maxId = child.maxId;
+        parent.children[index] = middle;
+        return middle;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static long[] insertSorted(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return ids;
+        }
+        int insertAt = -position - 1;
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, insertAt);
+        result[insertAt] = id;
+        System.arraycopy(ids, insertAt, result, insertAt + 1, ids.length - insertAt);
+        return result;
+    }
+
+    private static long[] removeAt(long[] ids, int position) {
+        if (ids.length == 1) {
+            return NO_IDS;
+        }
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, position);
+        System.arraycopy(ids, position + 1, result, position, ids.length - position - 1);
+        return result;
+    }
+
+    private static final class Node {
+
+        private String label;
+        // 간선 첫 글자 순으로 정렬
+        private Node[] children = NO_CHILDREN;
+        private long[] ids = NO_IDS;
+        private long maxId;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        // 없으면 (-(들어갈 위치) - 1)
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertChild(int position, Node child) {
+            Node[] result = new Node[children.length + 1];
+            System.arraycopy(children, 0, result, 0, position);
+            result[position] = child;
+            System.arraycopy(children, position, result, position + 1, children.length - position);
+            children = result;
+        }
+
+        private void removeChild(Node child) {
+            int position = indexOf(child.label.charAt(0));
+            Node[] result = new Node[children.length - 1];
+            System.arraycopy(children, 0, result, 0, position);
+            System.arraycopy(children, position + 1, result, position, children.length - position - 1);
+            children = result;
+        }
+
+        private void updateMaxId() {
+            long max = ids.length == 0 ? 0 : ids[ids.length - 1];
+            for (Node child : children) {
+                max = Math.max(max, child.maxId);
+            }
+            maxId = max;
+        }
+    }
+
+    private static final class Candidate {
+
+        private final long key;
+        private final Node node;
+
+        private Candidate(long key, Node node) {
+            this.key = key;
+            this.node = node;
+        }
+    }
+}
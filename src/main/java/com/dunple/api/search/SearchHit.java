@@ -0,0 +1,15 @@
+package com.dunple.api.search;
+
+import lombok.Getter;
+
+@Getter
+public class SearchHit {
+
+    private final long postId;
+    private final double score;
+
+    public SearchHit(long postId, double score) {
+        this.postId = postId;
+        this.score = score;
+    }
+}
@@ -1,6 +1,11 @@
 package com.dunple.api.service;
 
-import com.dunple.api.crypto.PasswordEncoder;
+import com.dunple.api.cache.RegisteredEmails;
+import com.dunple.api.cache.RevokedTokens;
+import com.dunple.api.cache.SessionStore;
+import com.dunple.api.config.data.UserSession;
+import com.dunple.api.crypto.PasswordHashExecutor;
+import com.dunple.api.domain.Session;
 import com.dunple.api.domain.User;
 import com.dunple.api.exception.AlreadyExistEmailException;
 import com.dunple.api.exception.InvalidSigninInformationException;
@@ -8,45 +13,75 @@ import com.dunple.api.repository.UserRepository;
 import com.dunple.api.request.LoginRequest;
 import com.dunple.api.request.Signup;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ *  비밀번호 해싱은 PasswordHashExecutor 에서 돌리고 결과는 CompletableFuture 로 돌려준다.
+ *  - 해싱 스레드가 밀려 있으면 ServiceUnavailableException 을 바로 던진다.
+ *  - 해싱 뒤 DB 저장(가입/세션 생성)은 해싱 스레드를 잡지 않도록 applicationTaskExecutor 에서 한다.
+ *  - 이메일 중복은 email unique index 로 막고, RegisteredEmails 로 가입된 이메일인지 먼저 거른다.
+ *  - 로그인하면 SessionStore 에 세션을 만들고, 그 accessToken 을 JWT 의 jti 로 쓴다.
+ */
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder encoder;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final RevokedTokens revokedTokens;
+    private final SessionStore sessionStore;
+    private final RegisteredEmails registeredEmails;
+    // 스프링 부트 기본 task executor (spring.task.execution.*), 같은 타입 빈이 늘어도 이름으로 찾는다.
+    private final TaskExecutor applicationTaskExecutor;
 
-    @Transactional
-    public void signup(Signup signup) {
-        Optional<User> userOptional = userRepository.findByEmail(signup.getEmail());
-        if (userOptional.isPresent()) {
+    public CompletableFuture<Void> signup(Signup signup) {
+        // 가입된 이메일일 수도 있을 때만 해싱 전에 DB 로 확인한다. (대부분은 insert 한 번)
+        if (registeredEmails.exists(signup.getEmail())) {
             throw new AlreadyExistEmailException();
         }
 
-        String encryptedPassword = encoder.encrypt(signup.getPassword());
+        return passwordHashExecutor.encrypt(signup.getPassword())
+            .thenAcceptAsync(encryptedPassword -> {
+                User user = User.builder()
+                    .email(signup.getEmail())
+                    .name(signup.getName())
+                    .password(encryptedPassword)
+                    .build();
+                try {
+                    userRepository.save(user);
+                } catch (DataIntegrityViolationException e) {
+                    // 동시에 같은 이메일로 가입하면 unique index 가 막는다.
+                    throw new AlreadyExistEmailException();
+                }
+            }, applicationTaskExecutor);
+    }
 
-        User user = User.builder()
-            .email(signup.getEmail())
-            .name(signup.getName())
-            .password(encryptedPassword)
-            .build();
-        userRepository.save(user);
+    public boolean existsEmail(String email) {
+        return registeredEmails.exists(email);
     }
 
+    // 지금 토큰을 폐기해서 만료 전이라도 더는 쓰지 못하게 한다.
     @Transactional
-    public String signin(LoginRequest request) {
+    public void logout(UserSession session) {
+        revokedTokens.revoke(session.getTokenId(), session.getExpiration());
+        sessionStore.remove(session.getTokenId());
+    }
+
+    public CompletableFuture<Session> signin(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
             .orElseThrow(() -> new InvalidSigninInformationException());
 
-
-        boolean matches = encoder.matches(request.getPassword(), user.getPassword());
-        if (!matches) {
-            throw new InvalidSigninInformationException();
-        }
-        return user.getName();
+        return passwordHashExecutor.matches(request.getPassword(), user.getPassword())
+            .thenApplyAsync(matches -> {
+                if (!matches) {
+                    throw new InvalidSigninInformationException();
+                }
+                return sessionStore.create(user);
+            }, applicationTaskExecutor);
     }
 }
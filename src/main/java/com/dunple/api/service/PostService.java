@@ -1,87 +1,532 @@
 package com.dunple.api.service;
 
+import com.dunple.api.cache.PostCache;
+import com.dunple.api.cache.PostPageCache;
+import com.dunple.api.cache.PostVersionIndex;
+import com.dunple.api.cache.PostViewCounter;
+import com.dunple.api.config.JpaConfig;
 import com.dunple.api.domain.Post;
 import com.dunple.api.domain.PostEditor;
+import com.dunple.api.domain.PostTitle;
+import com.dunple.api.domain.PostVersion;
+import com.dunple.api.exception.InvalidRequestException;
+import com.dunple.api.filter.BannedWordFilter;
+import com.dunple.api.filter.SpamDetector;
+import com.dunple.api.filter.WordMatch;
 import com.dunple.api.exception.PostNotFoundException;
+import com.dunple.api.exception.PreconditionFailedException;
 import com.dunple.api.repository.PostRepository;
+import com.dunple.api.request.PostBulkCreate;
 import com.dunple.api.request.PostCreate;
+import com.dunple.api.request.PostCursor;
 import com.dunple.api.request.PostEdit;
+import com.dunple.api.request.PostField;
 import com.dunple.api.request.PostSearch;
+import com.dunple.api.response.PartialPostResponse;
+import com.dunple.api.response.PartialPostSliceResponse;
+import com.dunple.api.response.PostBulkResponse;
+import com.dunple.api.response.PostDeleteResponse;
+import com.dunple.api.response.PostLookupResponse;
 import com.dunple.api.response.PostResponse;
+import com.dunple.api.response.PostSliceResponse;
+import com.dunple.api.response.PostSuggestion;
+import com.dunple.api.response.PostSummary;
+import com.dunple.api.search.PopularPosts;
+import com.dunple.api.search.PostSearchIndex;
+import com.dunple.api.search.PostTitleIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "id");
+    private static final int MAX_LOOKUP_SIZE = 100;
+    private static final int MAX_SUGGEST_SIZE = 20;
+    private static final int MAX_DELETE_SIZE = 5000;
+    // delete 문 하나에 담는 id 수 (청크마다 트랜잭션을 따로 가져간다)
+    private static final int DELETE_CHUNK_SIZE = 500;
+
     private final PostRepository postRepository;
+    private final PostCache postCache;
+    private final PostPageCache postPageCache;
+    private final PostVersionIndex postVersionIndex;
+    private final PostViewCounter postViewCounter;
+    private final PostSearchIndex postSearchIndex;
+    private final PostTitleIndex postTitleIndex;
+    private final PopularPosts popularPosts;
+    private final BannedWordFilter bannedWordFilter;
+    private final SpamDetector spamDetector;
+    private final EntityManager entityManager;
 
+    @Transactional
     public PostResponse write(PostCreate request) {
+        checkBannedWords(request.getTitle(), request.getContent());
+        Long fingerprint = spamDetector.fingerprint(request.getContent());
+        spamDetector.check(fingerprint);
+
         Post post = Post.builder()
             .title(request.getTitle())
             .content(request.getContent())
+            .fingerprint(fingerprint)
             .build();
         postRepository.save(post);
-        return new PostResponse(post);
+
+        PostResponse response = new PostResponse(post);
+        postPageCache.onWrite(response);
+        postSearchIndex.onWrite(post);
+        postTitleIndex.onWrite(post.getId(), post.getTitle());
+        return response;
+    }
+
+    // 수정된 본문도 이후 글과 비교되도록 커밋 후 색인에 넣는다. (수정 자체는 스팸 검사하지 않는다)
+    private void reindexFingerprint(Long fingerprint) {
+        if (fingerprint != null) {
+            spamDetector.onWrite(List.of(fingerprint));
+        }
+    }
+
+    // 배치 크기만큼 모아서 flush 하고 영속성 컨텍스트를 비운다.
+    @Transactional
+    public PostBulkResponse writeAll(PostBulkCreate request) {
+        InvalidRequestException bannedWords = new InvalidRequestException();
+        for (int i = 0; i < request.getPosts().size(); i++) {
+            PostCreate create = request.getPosts().get(i);
+            addBannedWords(bannedWords, "posts[" + i + "].title", create.getTitle());
+            addBannedWords(bannedWords, "posts[" + i + "].content", create.getContent());
+        }
+        throwIfAny(bannedWords);
+
+        List<Long> ids = new ArrayList<>(request.getPosts().size());
+        List<Post> chunk = new ArrayList<>(JpaConfig.BATCH_SIZE);
+        for (PostCreate create : request.getPosts()) {
+            chunk.add(Post.builder()
+                .title(create.getTitle())
+                .content(create.getContent())
+                .fingerprint(spamDetector.fingerprint(create.getContent()))
+                .build());
+            if (chunk.size() == JpaConfig.BATCH_SIZE) {
+                flush(chunk, ids);
+            }
+        }
+        flush(chunk, ids);
+
+        // 최신 글 window 가 통째로 바뀌므로 다시 읽게 한다.
+        postPageCache.clear();
+        return new PostBulkResponse(ids);
+    }
+
+    private void flush(List<Post> chunk, List<Long> ids) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        postRepository.saveAll(chunk);
+        postRepository.flush();
+        chunk.forEach(post -> ids.add(post.getId()));
+        postSearchIndex.onWrite(chunk);
+        spamDetector.onWrite(chunk.stream()
+            .map(Post::getFingerprint)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList()));
+        postTitleIndex.onWrite(chunk.stream()
+            .map(post -> new PostTitle(post.getId(), post.getTitle()))
+            .collect(Collectors.toList()));
+        entityManager.clear();
+        chunk.clear();
     }
 
+    // 조회수는 캐시된 응답이 아니라 PostViewCounter 에서 가져온다.
     public PostResponse get(Long id) {
-        Post post = postRepository.findById(id).orElseThrow(
+        return postCache.get(id, this::load)
+            .withViewCount(postViewCounter.viewCount(id));
+    }
+
+    public void countView(Long id) {
+        postViewCounter.increment(id);
+        popularPosts.onView(id);
+    }
+
+    // 캐시에 있으면 거기서 골라내고, 없으면 요청한 컬럼만 조회
+    public PartialPostResponse get(Long id, Set<PostField> fields) {
+        PostResponse cached = postCache.getIfPresent(id);
+        PartialPostResponse post = cached != null
+            ? PartialPostResponse.of(cached, fields)
+            : postRepository.findPartialById(id, fields).orElseThrow(() -> new PostNotFoundException());
+        return fields.contains(PostField.VIEW_COUNT) ? post.withViewCount(postViewCounter.viewCount(id)) : post;
+    }
+
+    // 캐시/페이지 window 에 든 조회수는 읽은 때의 값이라 응답할 때 지금 조회수로 바꾼다.
+    private Map<Long, PostResponse> withViewCounts(Map<Long, PostResponse> posts) {
+        Map<Long, Long> viewCounts = postViewCounter.viewCounts(posts.keySet());
+        posts.replaceAll((id, post) -> post.withViewCount(viewCounts.getOrDefault(id, post.getViewCount())));
+        return posts;
+    }
+
+    private List<PostResponse> withViewCounts(List<PostResponse> posts) {
+        Map<Long, Long> viewCounts = postViewCounter.viewCounts(posts.stream()
+            .map(PostResponse::getId)
+            .collect(Collectors.toList()));
+        return posts.stream()
+            .map(post -> post.withViewCount(viewCounts.getOrDefault(post.getId(), post.getViewCount())))
+            .collect(Collectors.toList());
+    }
+
+    private List<PartialPostResponse> withViewCounts(List<PartialPostResponse> posts, Set<PostField> fields) {
+        if (!fields.contains(PostField.VIEW_COUNT)) {
+            return posts;
+        }
+        Map<Long, Long> viewCounts = postViewCounter.viewCounts(posts.stream()
+            .map(PartialPostResponse::getId)
+            .collect(Collectors.toList()));
+        return posts.stream()
+            .map(post -> post.withViewCount(viewCounts.getOrDefault(post.getId(), 0L)))
+            .collect(Collectors.toList());
+    }
+
+    private Map<Long, PostResponse> loadAll(Collection<Long> ids) {
+        return postRepository.getResponsesByIds(ids).stream()
+            .collect(Collectors.toMap(PostResponse::getId, Function.identity()));
+    }
+
+    private PostResponse load(Long id) {
+        Post post = postRepository.findWithBodyById(id).orElseThrow(
             () -> new PostNotFoundException()
         );
         return new PostResponse(post);
     }
 
+    // 요청한 순서대로, 없는 글은 notFound 로 채워서 응답
+    public List<PostLookupResponse> getAll(List<Long> ids) {
+        if (ids.size() > MAX_LOOKUP_SIZE) {
+            throw new InvalidRequestException("ids", "한 번에 최대 " + MAX_LOOKUP_SIZE + "개까지 조회할 수 있습니다.");
+        }
+
+        Map<Long, PostResponse> posts = withViewCounts(postCache.getAll(ids, this::loadAll));
+
+        return ids.stream()
+            .map(id -> posts.containsKey(id)
+                ? PostLookupResponse.found(posts.get(id))
+                : PostLookupResponse.notFound(id))
+            .collect(Collectors.toList());
+    }
+
+    // 점수 순서대로, 색인과 DB 사이에 지워진 글은 빼고 응답
+    public List<PostResponse> search(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("q", "검색어를 입력해주세요.");
+        }
+
+        List<Long> ids = postSearchIndex.search(query, Math.min(size, MAX_LOOKUP_SIZE));
+        Map<Long, PostResponse> posts = withViewCounts(postCache.getAll(ids, this::loadAll));
+        return ids.stream()
+            .filter(posts::containsKey)
+            .map(posts::get)
+            .collect(Collectors.toList());
+    }
+
+    // 인기글 순위는 메모리에서 고르고, 그 사이 지워진 글은 빼고 응답
+    public List<PostResponse> getPopular(int size) {
+        if (size <= 0 || size > popularPosts.maxSize()) {
+            throw new InvalidRequestException("size", "1 ~ " + popularPosts.maxSize() + "개까지 조회할 수 있습니다.");
+        }
+
+        List<Long> ids = popularPosts.top();
+        Map<Long, PostResponse> posts = withViewCounts(postCache.getAll(ids, this::loadAll));
+        return ids.stream()
+            .filter(posts::containsKey)
+            .limit(size)
+            .map(posts::get)
+            .collect(Collectors.toList());
+    }
+
+    // 자동완성은 DB 를 거치지 않고 제목 색인에서만 응답
+    public List<PostSuggestion> suggest(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return postTitleIndex.suggest(prefix, Math.min(size, MAX_SUGGEST_SIZE));
+    }
+
+    public PostVersion getVersion(Long id) {
+        return postVersionIndex.get(id, key -> postRepository.findVersionById(key)
+            .orElseThrow(() -> new PostNotFoundException()));
+    }
+
     public List<PostResponse> getList(Pageable pageable) {
         // pageable 정도는 알아야한다.
-        return postRepository.findAll(pageable).stream()
-            .map(post -> new PostResponse(post))
-            .collect(Collectors.toList());
+        Pageable sorted = latestFirstIfUnsorted(pageable);
+        if (!LATEST_FIRST.equals(sorted.getSort())) {
+            return withViewCounts(postRepository.getResponseList(sorted));
+        }
+        return withViewCounts(postPageCache.get(sorted.getOffset(), sorted.getPageSize(), this::getLatest,
+            () -> postRepository.getResponseList(sorted)));
     }
 
     public List<PostResponse> getListQueryDsl(PostSearch postSearch) {
-        return postRepository.getList(postSearch).stream()
-            .map(post -> new PostResponse(post))
+        return withViewCounts(postPageCache.get(postSearch.getOffset(), postSearch.getSize(), this::getLatest,
+            () -> postRepository.getResponseList(postSearch)));
+    }
+
+    public List<PartialPostResponse> getList(Pageable pageable, Set<PostField> fields) {
+        Pageable sorted = latestFirstIfUnsorted(pageable);
+        if (!LATEST_FIRST.equals(sorted.getSort())) {
+            return withViewCounts(postRepository.getPartialList(sorted, fields), fields);
+        }
+        return withViewCounts(postPageCache.find(sorted.getOffset(), sorted.getPageSize())
+            .map(posts -> toPartial(posts, fields))
+            .orElseGet(() -> postRepository.getPartialList(sorted, fields)), fields);
+    }
+
+    public List<PartialPostResponse> getListQueryDsl(PostSearch postSearch, Set<PostField> fields) {
+        return withViewCounts(postPageCache.find(postSearch.getOffset(), postSearch.getSize())
+            .map(posts -> toPartial(posts, fields))
+            .orElseGet(() -> postRepository.getPartialList(postSearch, fields)), fields);
+    }
+
+    // 정렬을 보내지 않은 첫 화면 요청도 최신순으로 보고 페이지 window 에서 응답한다.
+    private static Pageable latestFirstIfUnsorted(Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), LATEST_FIRST);
+    }
+
+    private static List<PartialPostResponse> toPartial(List<PostResponse> posts, Set<PostField> fields) {
+        return posts.stream()
+            .map(post -> PartialPostResponse.of(post, fields))
             .collect(Collectors.toList());
     }
 
+    // 다 쓴 엔티티는 바로 detach 해서 영속성 컨텍스트가 글 수만큼 커지지 않게 한다.
+    @Transactional(readOnly = true)
+    public void export(Consumer<PostResponse> consumer) {
+        try (Stream<Post> posts = postRepository.streamAll()) {
+            posts.forEach(post -> {
+                consumer.accept(new PostResponse(post));
+                entityManager.detach(post);
+            });
+        }
+    }
+
+    private List<PostResponse> getLatest(int count) {
+        return postRepository.getResponseList(PageRequest.of(0, count, LATEST_FIRST));
+    }
+
+    public List<PostSummary> getSummaryList(PostSearch postSearch) {
+        return postRepository.getSummaryList(postSearch);
+    }
+
+    public PostSliceResponse getListByCursor(PostSearch postSearch) {
+        List<PostResponse> posts = withViewCounts(postPageCache.getAfter(postSearch.getLastId(),
+            postSearch.getCursorSize(), this::getLatest, () -> postRepository.getListByCursor(postSearch)));
+
+        // 한 페이지를 꽉 채웠을 때만 다음 페이지가 있다고 본다.
+        String nextCursor = null;
+        if (!posts.isEmpty() && posts.size() == postSearch.getCursorSize()) {
+            nextCursor = PostCursor.encode(posts.get(posts.size() - 1).getId());
+        }
+        return PostSliceResponse.builder()
+            .posts(posts)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    public PartialPostSliceResponse getListByCursor(PostSearch postSearch, Set<PostField> fields) {
+        List<PartialPostResponse> posts = withViewCounts(postPageCache.findAfter(postSearch.getLastId(),
+                postSearch.getCursorSize())
+            .map(window -> toPartial(window, fields))
+            .orElseGet(() -> postRepository.getPartialListByCursor(postSearch, fields)), fields);
+
+        String nextCursor = null;
+        if (!posts.isEmpty() && posts.size() == postSearch.getCursorSize()) {
+            nextCursor = PostCursor.encode(posts.get(posts.size() - 1).getId());
+        }
+        return PartialPostSliceResponse.builder()
+            .posts(posts)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
     @Transactional
     public PostResponse edit(Long id, PostEdit request) {
-        Post post = postRepository.findById(id)
-            .orElseThrow(() -> new PostNotFoundException());
+        return edit(id, request, null);
+    }
 
-        post.edit(request.getTitle(), request.getContent());
-        return new PostResponse(post);
+    /**
+     *  글을 읽어오지 않고 update 문으로 바로 수정, 본문 크기와 상관없이 바꾼 컬럼만 쓴다.
+     *  - ifMatch: 수정을 허용할 version 목록 (null 이면 확인하지 않음)
+     */
+    @Transactional
+    public PostResponse edit(Long id, PostEdit request, Collection<Long> ifMatch) {
+        checkBannedWords(request.getTitle(), request.getContent());
+        Long fingerprint = spamDetector.fingerprint(request.getContent());
+        if (postRepository.editById(id, request.getTitle(), request.getContent(), fingerprint, ifMatch) == 0) {
+            throw notFoundOrConflict(id);
+        }
+        reindexFingerprint(fingerprint);
+        postCache.evict(id);
+        postVersionIndex.evict(id);
+
+        // 수정과 다시 읽기 사이에 지워졌을 수 있다.
+        PostResponse response = postRepository.getResponsesByIds(List.of(id)).stream()
+            .findFirst()
+            .orElseThrow(() -> new PostNotFoundException());
+        postPageCache.onEdit(response);
+        // 응답의 제목은 잘려 있으므로 검색 색인에는 전체 제목을 넣는다.
+        String title = request.hasTitle() ? request.getTitle() : postRepository.findTitleById(id)
+            .orElseThrow(() -> new PostNotFoundException());
+        postSearchIndex.onEdit(id, title, response.getContent());
+        popularPosts.onEdit(id);
+        if (request.hasTitle()) {
+            postTitleIndex.onWrite(id, request.getTitle());
+        }
+        return response;
     }
 
     @Transactional
     public PostResponse edit1(Long id, PostEdit request) {
+        checkBannedWords(request.getTitle(), request.getContent());
         Post post = postRepository.findById(id)
             .orElseThrow(() -> new PostNotFoundException());
 
         PostEditor.PostEditorBuilder editorBuilder = post.toEditor();
-        PostEditor postEditor = editorBuilder
-            .title(request.getTitle())
-            .content(request.getContent())
-            .build();
+        if (request.hasTitle()) {
+            editorBuilder.title(request.getTitle());
+        }
+        if (request.hasContent()) {
+            editorBuilder.content(request.getContent());
+            Long fingerprint = spamDetector.fingerprint(request.getContent());
+            post.changeFingerprint(fingerprint);
+            reindexFingerprint(fingerprint);
+        }
+        PostEditor postEditor = editorBuilder.build();
 
         post.edit1(postEditor);
+        postRepository.flush();
+        postCache.evict(id);
+        postVersionIndex.evict(id);
 
-        return new PostResponse(post);
+        PostResponse response = new PostResponse(post);
+        postPageCache.onEdit(response);
+        postSearchIndex.onEdit(id, post.getTitle(), post.getContent());
+        popularPosts.onEdit(id);
+        if (request.hasTitle()) {
+            postTitleIndex.onWrite(id, request.getTitle());
+        }
+        return response;
     }
 
     public void delete(Long id) {
-        Post post = postRepository.findById(id)
-            .orElseThrow(() -> new PostNotFoundException());
+        delete(id, null);
+    }
+
+    public void delete(Long id, Collection<Long> ifMatch) {
+        if (postRepository.deleteById(id, ifMatch) == 0) {
+            throw notFoundOrConflict(id);
+        }
+        postCache.evict(id);
+        postVersionIndex.evict(id);
+        postPageCache.onDelete(id);
+        postSearchIndex.onDelete(id);
+        postTitleIndex.onDelete(id);
+        popularPosts.onDelete(id);
+    }
+
+    public PostDeleteResponse deleteAll(List<Long> ids) {
+        if (ids.size() > MAX_DELETE_SIZE) {
+            throw new InvalidRequestException("ids", "한 번에 최대 " + MAX_DELETE_SIZE + "개까지 삭제할 수 있습니다.");
+        }
+
+        long deleted = 0;
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            deleted += deleteChunk(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+        }
+        postPageCache.clear();
+        return new PostDeleteResponse(deleted);
+    }
+
+    // 관리용 일괄 삭제, 범위 전체를 한 트랜잭션으로 잡지 않고 청크 단위로 지운다.
+    public PostDeleteResponse deleteRange(Long fromId, Long toId) {
+        if (fromId > toId) {
+            throw new InvalidRequestException("fromId", "시작 id 가 끝 id 보다 클 수 없습니다.");
+        }
+        // 뺄셈이 넘치면 음수가 되므로 같이 막는다.
+        long span = toId - fromId;
+        if (span < 0 || span >= MAX_DELETE_SIZE) {
+            throw new InvalidRequestException("toId", "한 번에 최대 " + MAX_DELETE_SIZE + "개 id 범위까지 삭제할 수 있습니다.");
+        }
+
+        long deleted = 0;
+        Long next = fromId;
+        while (true) {
+            List<Long> ids = postRepository.getIdsBetween(next, toId, DELETE_CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += deleteChunk(ids);
+            next = ids.get(ids.size() - 1) + 1;
+        }
+        postPageCache.clear();
+        return new PostDeleteResponse(deleted);
+    }
+
+    private long deleteChunk(List<Long> ids) {
+        long deleted = postRepository.deleteAllByIds(ids);
+        ids.forEach(id -> {
+            postCache.evict(id);
+            postVersionIndex.evict(id);
+            postSearchIndex.onDelete(id);
+            postTitleIndex.onDelete(id);
+            popularPosts.onDelete(id);
+        });
+        return deleted;
+    }
+
+    // 조건부 수정/삭제가 0건이면 글이 없는 건지 version 이 다른 건지 구분
+    private RuntimeException notFoundOrConflict(Long id) {
+        if (postRepository.existsById(id)) {
+            return new PreconditionFailedException();
+        }
+        return new PostNotFoundException();
+    }
+
+    private void checkBannedWords(String title, String content) {
+        InvalidRequestException bannedWords = new InvalidRequestException();
+        addBannedWords(bannedWords, "title", title);
+        addBannedWords(bannedWords, "content", content);
+        throwIfAny(bannedWords);
+    }
+
+    // 금지어가 있으면 필드별로 찾은 단어와 위치를 validation 에 담는다.
+    private void addBannedWords(InvalidRequestException exception, String field, String text) {
+        List<WordMatch> matches = bannedWordFilter.findAll(text);
+        if (!matches.isEmpty()) {
+            exception.addValidation(field, BannedWordFilter.describe(matches));
+        }
+    }
 
-        postRepository.delete(post);
+    private void throwIfAny(InvalidRequestException exception) {
+        if (!exception.getValidation().isEmpty()) {
+            throw exception;
+        }
     }
 }
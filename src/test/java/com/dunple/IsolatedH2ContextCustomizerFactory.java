@@ -0,0 +1,61 @@
+package com.dunple;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *  테스트 context 마다 H2 메모리 DB 를 따로 쓴다.
+ *  - profile / MockMvc 설정이 다른 context 는 따로 뜨는데, 같은 이름의 메모리 DB 를 쓰면 새 context 가 스키마(sequence)를 다시 만들어
+ *    먼저 뜬 context 가 미리 받아둔 id 와 겹친다.
+ *  - 설정의 url 에서 DB 이름 뒤에 context 번호만 붙이고 나머지 옵션은 그대로 둔다.
+ */
+class IsolatedH2ContextCustomizerFactory implements ContextCustomizerFactory {
+
+    @Override
+    public ContextCustomizer createContextCustomizer(Class<?> testClass,
+                                                     List<ContextConfigurationAttributes> configAttributes) {
+        return new IsolatedH2ContextCustomizer();
+    }
+
+    private static class IsolatedH2ContextCustomizer implements ContextCustomizer {
+
+        private static final String URL = "spring.datasource.url";
+        private static final String H2_MEMORY = "jdbc:h2:mem:";
+        private static final AtomicInteger CONTEXTS = new AtomicInteger();
+
+        @Override
+        public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+            ConfigurableEnvironment environment = context.getEnvironment();
+            String url = environment.getProperty(URL);
+            if (url == null || !url.startsWith(H2_MEMORY)) {
+                return;
+            }
+
+            int options = url.indexOf(';');
+            String name = options < 0 ? url : url.substring(0, options);
+            String rest = options < 0 ? "" : url.substring(options);
+            environment.getPropertySources().addFirst(new MapPropertySource("isolatedH2",
+                Map.of(URL, name + "-" + CONTEXTS.incrementAndGet() + rest)));
+        }
+
+        // 모든 context 에 같은 customizer 라 context 캐시 key 는 바뀌지 않는다.
+        @Override
+        public boolean equals(Object obj) {
+            return obj != null && obj.getClass() == getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.domain.Post;
+import com.dunple.api.repository.PostRepository;
+import com.dunple.api.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PostViewCounterTest {
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+    }
+
+    @DisplayName("flush 가 조회 없는 글을 지우는 중에 조회가 들어와도 조회수를 잃지 않는다.")
+    @Test
+    void concurrentFlush() {
+        // given
+        Post post = postRepository.save(Post.builder()
+            .title("조회수 경합 확인용 글")
+            .content("flush 와 동시에 읽히는 글")
+            .build());
+        int threads = 4;
+        int viewsPerThread = 20_000;
+
+        // when
+        AtomicBoolean done = new AtomicBoolean();
+        CompletableFuture<Void> flusher = CompletableFuture.runAsync(() -> {
+            while (!done.get()) {
+                postViewCounter.flush();
+            }
+        });
+        List<CompletableFuture<Void>> viewers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            viewers.add(CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    postViewCounter.increment(post.getId());
+                    if (j % 100 == 0) {
+                        // 조회가 끊기는 구간을 만들어 flush 가 counter 를 지우게 한다.
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        CompletableFuture.allOf(viewers.toArray(new CompletableFuture[0])).join();
+        done.set(true);
+        flusher.join();
+        postViewCounter.flush();
+
+        // then
+        assertEquals((long) threads * viewsPerThread,
+            postRepository.findById(post.getId()).orElseThrow().getViewCount());
+        assertEquals(0, postViewCounter.pending(post.getId()));
+    }
+
+    @DisplayName("조회수를 DB 에 반영해도 캐시된 글은 그대로 두고 응답의 조회수만 바뀐다.")
+    @Test
+    void flushKeepsPostCache() {
+        // given
+        Post post = postRepository.save(Post.builder()
+            .title("캐시 유지 확인용 글")
+            .content("조회수만 바뀌는 글")
+            .build());
+        postService.get(post.getId());
+        postViewCounter.increment(post.getId());
+        postViewCounter.increment(post.getId());
+
+        // when
+        postViewCounter.flush();
+        postViewCounter.increment(post.getId());
+
+        // then
+        assertNotNull(postCache.getIfPresent(post.getId()));
+        assertEquals(3L, postService.get(post.getId()).getViewCount());
+        assertEquals(2L, postRepository.findById(post.getId()).orElseThrow().getViewCount());
+    }
+}
@@ -0,0 +1,105 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.domain.Session;
+import com.dunple.api.domain.User;
+import com.dunple.api.repository.SessionRepository;
+import com.dunple.api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SessionStoreTest {
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+            .email("session@naver.com")
+            .name("session")
+            .password("1234")
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    @DisplayName("사용자당 세션 수를 넘기면 오래된 세션부터 지운다.")
+    @Test
+    void maxPerUser() {
+        // given
+        List<Session> sessions = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 7; i++) {
+            sessions.add(sessionStore.create(user));
+        }
+
+        // then
+        assertEquals(5, sessionRepository.count());
+        assertFalse(sessionStore.isActive(sessions.get(0).getAccessToken()));
+        assertFalse(sessionStore.isActive(sessions.get(1).getAccessToken()));
+        for (int i = 2; i < 7; i++) {
+            assertTrue(sessionStore.isActive(sessions.get(i).getAccessToken()));
+        }
+    }
+
+    @DisplayName("없는 토큰은 유효한 세션이 아니다.")
+    @Test
+    void unknownToken() {
+        // expected
+        assertFalse(sessionStore.isActive("unknown"));
+    }
+
+    @DisplayName("만료된 세션은 sweep 으로 지워지고 더는 유효하지 않다.")
+    @Test
+    void sweep() {
+        // given
+        Session session = sessionStore.create(user);
+        sessionStore.create(user);
+
+        // when
+        int swept = sessionStore.sweep(LocalDateTime.now().plusDays(2));
+
+        // then
+        assertEquals(2, swept);
+        assertEquals(0, sessionRepository.count());
+        assertFalse(sessionStore.isActive(session.getAccessToken()));
+    }
+
+    @DisplayName("만료되지 않은 세션은 sweep 에서 지우지 않는다.")
+    @Test
+    void sweepKeepsActive() {
+        // given
+        Session session = sessionStore.create(user);
+
+        // when
+        int swept = sessionStore.sweep(LocalDateTime.now());
+
+        // then
+        assertEquals(0, swept);
+        assertTrue(sessionStore.isActive(session.getAccessToken()));
+    }
+}
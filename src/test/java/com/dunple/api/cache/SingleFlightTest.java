@@ -0,0 +1,118 @@
+package com.dunple.api.cache;
+
+import com.dunple.api.exception.PostNotFoundException;
+import com.dunple.api.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @DisplayName("같은 key 로 동시에 요청하면 loader 는 한 번만 실행되고 결과를 공유한다.")
+    @Test
+    void coalesce() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(3));
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loadCount.incrementAndGet();
+                await(release);
+                return "미카";
+            })));
+        }
+        while (singleFlight.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("미카", result.get(3, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loadCount.get());
+        assertEquals(0, singleFlight.inFlight());
+        executor.shutdown();
+    }
+
+    @DisplayName("loader 에서 발생한 예외는 기다리던 요청에도 그대로 전달된다.")
+    @Test
+    void propagateError() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(3));
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            await(release);
+            throw new PostNotFoundException();
+        }));
+        while (singleFlight.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // expected
+        releaseLater(release);
+        assertThrows(PostNotFoundException.class,
+            () -> singleFlight.execute(1L, () -> "다른 결과"));
+        assertThrows(Exception.class, () -> leader.get(3, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    @DisplayName("먼저 간 조회가 timeout 안에 끝나지 않으면 기다리던 요청은 503 예외")
+    @Test
+    void timeout() {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> singleFlight.execute(1L, () -> {
+            await(release);
+            return "미카";
+        }));
+        while (singleFlight.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // expected
+        assertThrows(ServiceUnavailableException.class,
+            () -> singleFlight.execute(1L, () -> "다른 결과"));
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private static void releaseLater(CountDownLatch latch) {
+        new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            latch.countDown();
+        }).start();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.dunple.api.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenDenylistTest {
+
+    @DisplayName("Bloom filter 는 넣은 값을 놓치지 않고, 넣지 않은 값의 오탐은 정한 비율 근처다.")
+    @Test
+    void bloomFilter() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("token-" + i);
+        }
+
+        // expected
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("token-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "오탐 " + falsePositives + "건");
+    }
+
+    @DisplayName("폐기한 토큰만 걸리고, rebuild 하면 만료된 토큰은 빠지고 저장소에 없던 최근 폐기는 남는다.")
+    @Test
+    void rebuild() {
+        // given
+        TokenDenylist denylist = new TokenDenylist(0.01);
+        denylist.add("local", 2_000);
+
+        // when
+        denylist.rebuild(Map.of("expired", 500L, "remote", 3_000L, "forever", TokenDenylist.NEVER_EXPIRES), 1_000);
+
+        // then
+        assertTrue(denylist.contains("local"));
+        assertTrue(denylist.contains("remote"));
+        assertTrue(denylist.contains("forever"));
+        assertFalse(denylist.contains("expired"));
+        assertFalse(denylist.contains("other"));
+        assertEquals(3, denylist.size());
+
+        denylist.rebuild(Map.of(), 2_500);
+        assertFalse(denylist.contains("local"));
+        assertTrue(denylist.contains("remote"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.dunple.api.config;
+
+import com.dunple.api.cache.SessionStore;
+import com.dunple.api.cache.TokenDenylist;
+import com.dunple.api.config.data.UserSession;
+import com.dunple.api.domain.Session;
+import com.dunple.api.repository.SessionRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ *  인증이 필요한 요청 하나당 UserSession 을 만드는 비용 (JMH)
+ *  - before: 예전처럼 요청마다 key 디코딩 + parser 생성 + 서명 검증/JSON 파싱
+ *  - parse: 미리 만든 parser 로 서명 검증/JSON 파싱만
+ *  - cached: AuthResolver 로 같은 토큰을 다시 받은 경우 (토큰 원문으로 캐시 조회 + 폐기 목록/세션 확인)
+ *  - 기본 test 에서는 제외, ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+public class AuthResolverBenchmarkTest {
+
+    private AppConfig appConfig;
+    private JwtParser parser;
+    private AuthResolver authResolver;
+    private NativeWebRequest webRequest;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Jwts.SIG.HS256.key().build();
+        appConfig = new AppConfig(Encoders.BASE64.encode(key.getEncoded()), Duration.ofHours(1));
+        parser = Jwts.parser()
+            .verifyWith(appConfig.getSecretKey())
+            .build();
+        // 세션은 처음 한 번만 DB 에서 읽고 이후로는 메모리에서 확인한다.
+        SessionRepository sessionRepository = mock(SessionRepository.class);
+        when(sessionRepository.findByAccessToken(anyString())).thenReturn(Optional.of(new Session(null)));
+        SessionStore sessionStore = new SessionStore(
+            new SessionProperties(5, Duration.ofHours(24), Duration.ofHours(2), Duration.ofMinutes(5),
+                Duration.ofMinutes(5), 500, 10_000),
+            sessionRepository, new SimpleMeterRegistry());
+        authResolver = new AuthResolver(appConfig, new TokenCacheProperties(10_000, Duration.ofMinutes(10)),
+            new SimpleMeterRegistry(), new TokenDenylist(0.01), sessionStore);
+
+        token = Jwts.builder()
+            .id(UUID.randomUUID().toString())
+            .subject("midcon")
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+            .signWith(appConfig.getSecretKey())
+            .compact();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", token);
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public UserSession before() {
+        SecretKey key = Keys.hmacShaKeyFor(appConfig.getJwtKey());
+        Claims claims = Jwts.parser()
+            .verifyWith(key)
+            .build()
+            .parseSignedClaims(token)
+            .getPayload();
+        return new UserSession(claims.getSubject(), claims.getId(), claims.getExpiration());
+    }
+
+    @Benchmark
+    public UserSession parse() {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return new UserSession(claims.getSubject(), claims.getId(), claims.getExpiration());
+    }
+
+    @Benchmark
+    public Object cached() throws Exception {
+        return authResolver.resolveArgument(null, null, webRequest, null);
+    }
+
+    @DisplayName("JWT 검증 - 요청마다 새로 만들 때 / parser 재사용 / 검증 결과 캐시")
+    @Test
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(AuthResolverBenchmarkTest.class.getName())
+            .build())
+            .run();
+    }
+}
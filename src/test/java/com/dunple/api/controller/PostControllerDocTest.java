@@ -60,7 +60,8 @@ public class PostControllerDocTest {
                 responseFields(
                     fieldWithPath("id").description("게시글 ID"),
                     fieldWithPath("title").description("글 제목"),
-                    fieldWithPath("content").description("글 내용")
+                    fieldWithPath("content").description("글 내용"),
+                    fieldWithPath("viewCount").description("조회수")
                 )
             ));
     }
@@ -92,7 +93,8 @@ public class PostControllerDocTest {
                 responseFields(
                     fieldWithPath("id").description("게시글 ID"),
                     fieldWithPath("title").description("글 제목"),
-                    fieldWithPath("content").description("글 내용")
+                    fieldWithPath("content").description("글 내용"),
+                    fieldWithPath("viewCount").description("조회수")
                 )
             ));
     }
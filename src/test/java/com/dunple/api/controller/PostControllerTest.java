@@ -1,11 +1,22 @@
 package com.dunple.api.controller;
 
+import com.dunple.api.cache.PostPageCache;
+import com.dunple.api.cache.PostViewCounter;
+import com.dunple.api.cache.SessionStore;
+import com.dunple.api.config.AppConfig;
 import com.dunple.api.domain.Post;
+import com.dunple.api.domain.Session;
+import com.dunple.api.domain.User;
 import com.dunple.api.repository.PostRepository;
+import com.dunple.api.repository.SessionRepository;
+import com.dunple.api.repository.UserRepository;
 import com.dunple.api.request.PostCreate;
 import com.dunple.api.request.PostEdit;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import io.jsonwebtoken.Jwts;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,14 +24,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,9 +55,35 @@ class PostControllerTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostPageCache postPageCache;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private AppConfig appConfig;
+
     @BeforeEach
     void clean() {
         postRepository.deleteAll();
+        postPageCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionRepository.deleteAll();
+        userRepository.findByEmail("moderator@naver.com")
+            .ifPresent(userRepository::delete);
     }
 
     @DisplayName("/hello 요청시 Hello World 를 출력한다.")
@@ -122,7 +165,8 @@ class PostControllerTest {
             )
             .andExpect(status().isOk())
             .andDo(print());
-        Post post = postRepository.findAll().get(0);
+        Long postId = postRepository.findAll().get(0).getId();
+        Post post = postRepository.findWithBodyById(postId).get();
 
         // then
         assertEquals(1L, postRepository.count());
@@ -148,11 +192,34 @@ class PostControllerTest {
                     .content(json)
             )
             .andDo(print())
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validation.title").value("금지어를 포함할 수 없습니다. 바보(8~10)"));
 
         assertEquals(0L, postRepository.count());
     }
 
+    @DisplayName("최근 글과 거의 같은 본문으로 다시 작성하면 400")
+    @Test
+    void postNearDuplicate() throws Exception {
+        // given
+        String content = "냥냥이 사료 할인 이벤트! 지금 가입하면 포인트 만 점을 드립니다. 아래 링크를 눌러서 확인하세요. "
+            + "오늘 하루만 진행하는 이벤트이니 서둘러 주세요.";
+        mockMvc.perform(post("/posts")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new PostCreate("이벤트", content))))
+            .andExpect(status().isOk());
+
+        // expected
+        mockMvc.perform(post("/posts")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new PostCreate("이벤트!!", content.replace("만 점", "만점!")))))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validation.content").value("최근에 등록된 글과 거의 같은 내용입니다."))
+            .andDo(print());
+
+        assertEquals(1L, postRepository.count());
+    }
+
     @DisplayName("글 단건 조회 성공")
     @Test
     void get() throws Exception {
@@ -209,6 +276,458 @@ class PostControllerTest {
             .andDo(print());
     }
 
+    @DisplayName("글 단건 조회 시 ETag 가 같으면 본문 없이 304 를 응답한다.")
+    @Test
+    void getNotModified() throws Exception {
+        // given
+        Post post = Post.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("우리 공주님")
+            .build();
+        postRepository.save(post);
+
+        String eTag = mockMvc.perform(
+                MockMvcRequestBuilders.get("/posts/{postId}", post.getId())
+                    .contentType(APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", Matchers.startsWith("W/")))
+            .andExpect(header().exists("Last-Modified"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+        // expected
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/posts/{postId}", post.getId())
+                    .header("If-None-Match", eTag)
+                    .contentType(APPLICATION_JSON)
+            )
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""))
+            .andDo(print());
+    }
+
+    @DisplayName("글 수정 후에는 이전 ETag 로 조회해도 새 글을 응답한다.")
+    @Test
+    void getModified() throws Exception {
+        // given
+        Post post = Post.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("우리 공주님")
+            .build();
+        postRepository.save(post);
+
+        String eTag = mockMvc.perform(
+                MockMvcRequestBuilders.get("/posts/{postId}", post.getId())
+                    .contentType(APPLICATION_JSON)
+            )
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+        PostEdit request = PostEdit.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("이쁜 겅두님")
+            .build();
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/posts/{postId}", post.getId())
+                    .contentType(APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            )
+            .andExpect(status().isOk());
+
+        // expected
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/posts/{postId}", post.getId())
+                    .header("If-None-Match", eTag)
+                    .contentType(APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content").value("이쁜 겅두님"))
+            .andDo(print());
+    }
+
+    @DisplayName("정렬 없이 첫 페이지를 요청해도 최신순으로 페이지 window 에서 응답한다.")
+    @Test
+    void getListUnsorted() throws Exception {
+        // given
+        List<Post> posts = IntStream.range(0, 3)
+            .mapToObj(i -> Post.builder()
+                .title("첫 화면 글 " + i)
+                .content("첫 화면 내용 " + i)
+                .build())
+            .collect(Collectors.toList());
+        postRepository.saveAll(posts);
+
+        // when
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].title").value("첫 화면 글 2"))
+            .andExpect(jsonPath("$[2].title").value("첫 화면 글 0"));
+
+        // then
+        assertTrue(postPageCache.find(0, 3).isPresent());
+    }
+
+    @DisplayName("정렬할 수 없는 필드로 목록을 요청하면 400 이다.")
+    @Test
+    void getListInvalidSort() throws Exception {
+        // expected
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts?page=1&sort=content"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validation.sort").exists());
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts?page=1&sort=unknown,desc&fields=title"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validation.sort").exists());
+    }
+
+    @DisplayName("여러 글 한번에 조회 시 요청한 순서대로, 없는 글은 found=false 로 응답한다.")
+    @Test
+    void getAll() throws Exception {
+        // given
+        Post post1 = Post.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("우리 공주님")
+            .build();
+        Post post2 = Post.builder()
+            .title("짤녀 공주면 자러감")
+            .content("잘 자")
+            .build();
+        postRepository.saveAll(List.of(post1, post2));
+
+        // expected
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/posts")
+                    .param("ids", post2.getId() + "," + 1000L + "," + post1.getId())
+                    .contentType(APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", Matchers.is(3)))
+            .andExpect(jsonPath("$[0].post.title").value("짤녀 공주면 자러감"))
+            .andExpect(jsonPath("$[1].id").value(1000L))
+            .andExpect(jsonPath("$[1].found").value(false))
+            .andExpect(jsonPath("$[2].found").value(true))
+            .andExpect(jsonPath("$[2].post.content").value("우리 공주님"))
+            .andDo(print());
+    }
+
+    @DisplayName("조회수는 메모리에 모았다가 DB 에 한번에 더하고, 응답에는 둘을 합쳐서 내려준다.")
+    @Test
+    void viewCount() throws Exception {
+        // given
+        Post post = Post.builder()
+            .title("조회수 확인용 글")
+            .content("여러 번 읽히는 글")
+            .build();
+        postRepository.save(post);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/posts/{postId}", post.getId()))
+                .andExpect(status().isOk());
+        }
+        postViewCounter.flush();
+
+        // then
+        assertEquals(3L, postRepository.findById(post.getId()).orElseThrow().getViewCount());
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/{postId}", post.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.viewCount").value(4L))
+            .andDo(print());
+    }
+
+    @DisplayName("필드를 골라서 조회해도 조회수에 더한다.")
+    @Test
+    void viewCountWithFields() throws Exception {
+        // given
+        Post post = Post.builder()
+            .title("필드 조회수 확인용 글")
+            .content("제목만 읽히는 글")
+            .build();
+        postRepository.save(post);
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/posts/{postId}", post.getId())
+                    .param("fields", "title"))
+                .andExpect(status().isOk());
+        }
+
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/{postId}", post.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.viewCount").value(3L));
+    }
+
+    @DisplayName("목록과 fields 응답도 페이지 window 를 만든 뒤의 조회수까지 응답한다.")
+    @Test
+    void viewCountInLists() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+            .title("목록 조회수 확인용 글")
+            .content("window 에 들어간 뒤 읽히는 글")
+            .build());
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts2"))
+            .andExpect(jsonPath("$[0].viewCount").value(0L));
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/posts/{postId}", post.getId()))
+                .andExpect(status().isOk());
+        }
+
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].viewCount").value(2L));
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts2/cursor"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.posts[0].viewCount").value(2L));
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts2/cursor")
+                .param("fields", "viewCount"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.posts[0].viewCount").value(2L))
+            .andExpect(jsonPath("$.posts[0].title").doesNotExist());
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/{postId}", post.getId())
+                .param("fields", "viewCount"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.viewCount").value(2L));
+    }
+
+    @DisplayName("최근에 많이 조회된 글부터 인기글로 응답한다.")
+    @Test
+    void popular() throws Exception {
+        // given
+        Post post1 = Post.builder()
+            .title("한 번 읽힌 글")
+            .content("조금 인기")
+            .build();
+        Post post2 = Post.builder()
+            .title("세 번 읽힌 글")
+            .content("제일 인기")
+            .build();
+        postRepository.saveAll(List.of(post1, post2));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/{postId}", post1.getId()));
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get("/posts/{postId}", post2.getId()));
+        }
+
+        // when
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/posts/popular").param("size", "20"))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn();
+
+        // then
+        // 다른 테스트에서 조회된 글이 섞여 있을 수 있어서 이번에 만든 두 글의 순서만 본다.
+        List<Number> popular = JsonPath.read(result.getResponse().getContentAsString(StandardCharsets.UTF_8), "$[*].id");
+        List<Long> ids = popular.stream()
+            .map(Number::longValue)
+            .filter(id -> id.equals(post1.getId()) || id.equals(post2.getId()))
+            .collect(Collectors.toList());
+        assertEquals(List.of(post2.getId(), post1.getId()), ids);
+    }
+
+    @DisplayName("인기글 개수가 0 이하이거나 들고 있는 개수보다 많으면 400 이다.")
+    @Test
+    void popularInvalidSize() throws Exception {
+        // expected
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/popular").param("size", "0"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validation.size").exists());
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/popular").param("size", "21"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validation.size").exists());
+    }
+
+    @DisplayName("fields 로 요청한 필드만 응답한다.")
+    @Test
+    void getFields() throws Exception {
+        // given
+        Post post = Post.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("우리 공주님")
+            .build();
+        postRepository.save(post);
+
+        // expected
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/posts/{postId}", post.getId())
+                    .param("fields", "title")
+                    .contentType(APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(post.getId()))
+            .andExpect(jsonPath("$.title").value("우리 이쁜 미카공주님"))
+            .andExpect(jsonPath("$.content").doesNotExist())
+            .andDo(print());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/posts2?page=1&size=10&fields=id")
+                    .contentType(APPLICATION_JSON)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(post.getId()))
+            .andExpect(jsonPath("$[0].title").doesNotExist())
+            .andExpect(jsonPath("$[0].content").doesNotExist())
+            .andDo(print());
+    }
+
+    @DisplayName("목록과 커서 목록에서도 요청한 필드만 응답한다.")
+    @Test
+    void getListFields() throws Exception {
+        // given
+        List<Post> posts = IntStream.range(0, 3)
+            .mapToObj(i -> Post.builder()
+                .title("필드 목록 " + i)
+                .content("필드 목록 내용 " + i)
+                .build())
+            .collect(Collectors.toList());
+        postRepository.saveAll(posts);
+
+        // expected
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts?page=1&sort=id,desc&fields=title"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", Matchers.is(3)))
+            .andExpect(jsonPath("$[0].id").value(posts.get(2).getId()))
+            .andExpect(jsonPath("$[0].title").value("필드 목록 2"))
+            .andExpect(jsonPath("$[0].content").doesNotExist());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts2/cursor?size=2&fields=content"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.posts.length()", Matchers.is(2)))
+            .andExpect(jsonPath("$.posts[0].id").value(posts.get(2).getId()))
+            .andExpect(jsonPath("$.posts[0].title").doesNotExist())
+            .andExpect(jsonPath("$.posts[0].content").value("필드 목록 내용 2"))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andDo(print());
+    }
+
+    @DisplayName("전체 글을 NDJSON 으로 내보낸다.")
+    @Test
+    void export() throws Exception {
+        // given
+        List<Post> requestPosts = IntStream.range(0, 3)
+            .mapToObj(i -> Post.builder()
+                .title("미카 제목 " + i)
+                .content("미카 내용 " + i)
+                .build())
+            .collect(Collectors.toList());
+        postRepository.saveAll(requestPosts);
+
+        // when
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/posts/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(requestPosts.get(0).getId(), objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals("미카 내용 2", objectMapper.readTree(lines[2]).get("content").asText());
+    }
+
+    @DisplayName("검색어가 들어간 글을 점수 순으로 조회한다.")
+    @Test
+    void search() throws Exception {
+        // given
+        mockMvc.perform(post("/posts")
+            .contentType(APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new PostCreate("미카 일기", "오늘도 미카공주님은 잠만 잤다"))));
+        mockMvc.perform(post("/posts")
+            .contentType(APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new PostCreate("공주님 공주님", "공주님 최고"))));
+        mockMvc.perform(post("/posts")
+            .contentType(APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new PostCreate("저녁 메뉴", "라면"))));
+
+        // expected
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/search")
+                .param("q", "공주님"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", Matchers.is(2)))
+            .andExpect(jsonPath("$[0].title").value("공주님 공주님"))
+            .andExpect(jsonPath("$[1].title").value("미카 일기"))
+            .andDo(print());
+    }
+
+    @DisplayName("글을 수정해도 12자가 넘는 제목의 뒷부분까지 검색된다.")
+    @Test
+    void searchAfterEdit() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+            .title("미카공주님의 하루 일과 기록 낮잠")
+            .content("오늘도 잠만 잤다")
+            .build());
+
+        // when
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/posts/{postId}", post.getId())
+                    .contentType(APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(PostEdit.builder()
+                        .content("오늘은 간식도 먹었다")
+                        .build()))
+            )
+            .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/search")
+                .param("q", "낮잠"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", Matchers.is(1)))
+            .andExpect(jsonPath("$[0].id").value(post.getId()));
+
+        // when
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/posts/{postId}", post.getId())
+                    .contentType(APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(PostEdit.builder()
+                        .title("미카공주님의 하루 일과 기록 산책")
+                        .build()))
+            )
+            .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/search")
+                .param("q", "산책"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", Matchers.is(1)))
+            .andExpect(jsonPath("$[0].id").value(post.getId()));
+    }
+
+    @DisplayName("제목 prefix 로 최신 글부터 자동완성한다.")
+    @Test
+    void suggest() throws Exception {
+        // given
+        mockMvc.perform(post("/posts")
+            .contentType(APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new PostCreate("냥냥공주님 일기", "잠만 잤다"))));
+        mockMvc.perform(post("/posts")
+            .contentType(APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new PostCreate("냥냥이는 고릴라", "우호우호"))));
+        mockMvc.perform(post("/posts")
+            .contentType(APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new PostCreate("저녁 메뉴", "라면"))));
+
+        // expected
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts/suggest")
+                .param("prefix", "냥냥"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", Matchers.is(2)))
+            .andExpect(jsonPath("$[0].title").value("냥냥이는 고릴라"))
+            .andExpect(jsonPath("$[1].title").value("냥냥공주님 일기"))
+            .andDo(print());
+    }
+
     @DisplayName("글 1페이지 오름차순 조회")
     @Test
     void getListAsc() throws Exception {
@@ -333,6 +852,59 @@ class PostControllerTest {
             .andDo(print());
     }
 
+    @DisplayName("두 번째 페이지는 size 만큼 건너뛴 글부터 응답한다.")
+    @Test
+    void getListSecondPage() throws Exception {
+        // given
+        List<Post> posts = IntStream.range(0, 12)
+            .mapToObj(i -> Post.builder()
+                .title("페이지 글 " + i)
+                .content("페이지 내용 " + i)
+                .build())
+            .collect(Collectors.toList());
+        postRepository.saveAll(posts);
+
+        // expected
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts2?page=2&size=5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", Matchers.is(5)))
+            .andExpect(jsonPath("$[0].title", Matchers.is("페이지 글 6")))
+            .andExpect(jsonPath("$[4].title", Matchers.is("페이지 글 2")))
+            .andDo(print());
+    }
+
+    @DisplayName("커서로 목록을 이어서 조회한다. size 가 없으면 10개씩이다.")
+    @Test
+    void getListByCursor() throws Exception {
+        // given
+        List<Post> posts = IntStream.range(0, 15)
+            .mapToObj(i -> Post.builder()
+                .title("커서 글 " + i)
+                .content("커서 내용 " + i)
+                .build())
+            .collect(Collectors.toList());
+        postRepository.saveAll(posts);
+
+        // when
+        String body = mockMvc.perform(MockMvcRequestBuilders.get("/posts2/cursor"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.posts.length()", Matchers.is(10)))
+            .andExpect(jsonPath("$.posts[0].title", Matchers.is("커서 글 14")))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+        String nextCursor = JsonPath.read(body, "$.nextCursor");
+
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/posts2/cursor").param("cursor", nextCursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.posts.length()", Matchers.is(5)))
+            .andExpect(jsonPath("$.posts[0].title", Matchers.is("커서 글 4")))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist())
+            .andDo(print());
+    }
+
     @DisplayName("글 제목 수정")
     @Test
     void edit() throws Exception {
@@ -379,6 +951,73 @@ class PostControllerTest {
             .andDo(print());
     }
 
+    @DisplayName("글 수정 실패 - 수정할 필드가 하나도 없음")
+    @Test
+    void editEmpty() throws Exception {
+        // given
+        Post post = Post.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("우리 공주님")
+            .build();
+        postRepository.save(post);
+
+        // expected
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/posts/{postId}", post.getId())
+                    .contentType(APPLICATION_JSON)
+                    .content("{}")
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validation.title").value("수정할 내용을 입력해주세요."))
+            .andDo(print());
+    }
+
+    @DisplayName("If-Match 가 현재 ETag 와 같으면 수정하고, 이전 ETag 면 412")
+    @Test
+    void editIfMatch() throws Exception {
+        // given
+        Post post = Post.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("우리 공주님")
+            .build();
+        postRepository.save(post);
+        String etag = "\"" + post.getId() + "-" + post.getVersion() + "\"";
+
+        PostEdit request = PostEdit.builder()
+            .title("사랑스러운 공주님")
+            .build();
+
+        // expected
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/posts/{postId}", post.getId())
+                    .header("If-Match", etag)
+                    .contentType(APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"" + post.getId() + "-" + (post.getVersion() + 1) + "\""))
+            .andDo(print());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.patch("/posts/{postId}", post.getId())
+                    .header("If-Match", etag)
+                    .contentType(APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            )
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.code").value("412"))
+            .andDo(print());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.delete("/posts/{postId}", post.getId())
+                    .header("If-Match", etag)
+            )
+            .andExpect(status().isPreconditionFailed())
+            .andDo(print());
+
+        assertEquals(1L, postRepository.count());
+    }
+
     @DisplayName("글 내용 수정")
     @Test
     void edit2() throws Exception {
@@ -455,6 +1094,69 @@ class PostControllerTest {
             .andExpect(status().isNotFound())
             .andDo(print());
     }
-}
 
+    @DisplayName("글 범위 삭제는 로그인하지 않으면 401 이다.")
+    @Test
+    void deleteRangeUnauthorized() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+            .title("남아 있어야 하는 글")
+            .content("지워지면 안 된다")
+            .build());
+
+        // expected
+        mockMvc.perform(
+                MockMvcRequestBuilders.delete("/posts")
+                    .param("fromId", "0")
+                    .param("toId", String.valueOf(Long.MAX_VALUE))
+            )
+            .andExpect(status().isUnauthorized());
+        assertEquals(1L, postRepository.count());
+    }
+
+    @DisplayName("로그인하면 글을 범위로 삭제하고, 범위가 너무 넓으면 400 이다.")
+    @Test
+    void deleteRange() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+            .title("지워질 글")
+            .content("범위 안의 글")
+            .build());
+        String accessToken = login();
+
+        // expected
+        mockMvc.perform(
+                MockMvcRequestBuilders.delete("/posts")
+                    .header("Authorization", accessToken)
+                    .param("fromId", "0")
+                    .param("toId", String.valueOf(Long.MAX_VALUE))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validation.toId").exists());
+        mockMvc.perform(
+                MockMvcRequestBuilders.delete("/posts")
+                    .header("Authorization", accessToken)
+                    .param("fromId", String.valueOf(post.getId()))
+                    .param("toId", String.valueOf(post.getId()))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.count").value(1L));
+        assertEquals(0L, postRepository.count());
+    }
 
+    private String login() {
+        User user = userRepository.findByEmail("moderator@naver.com")
+            .orElseGet(() -> userRepository.save(User.builder()
+                .email("moderator@naver.com")
+                .name("moderator")
+                .password("1234")
+                .build()));
+        Session session = sessionStore.create(user);
+        return Jwts.builder()
+            .id(session.getAccessToken())
+            .subject(user.getName())
+            .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+            .signWith(appConfig.getSecretKey())
+            .compact();
+    }
+}
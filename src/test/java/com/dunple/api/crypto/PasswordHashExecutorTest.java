@@ -0,0 +1,61 @@
+package com.dunple.api.crypto;
+
+import com.dunple.api.config.PasswordHashProperties;
+import com.dunple.api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashExecutorTest {
+
+    @DisplayName("해싱 스레드와 큐가 모두 차 있으면 기다리지 않고 바로 503 예외를 던진다.")
+    @Test
+    void saturated() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = new PasswordEncoder() {
+            @Override
+            public String encrypt(String rawPassword) {
+                started.countDown();
+                await(release);
+                return rawPassword;
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String encryptedPassword) {
+                return rawPassword.equals(encryptedPassword);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashExecutor executor = new PasswordHashExecutor(slowEncoder, new PasswordHashProperties(1, 1), meterRegistry);
+
+        // when
+        CompletableFuture<String> running = executor.encrypt("1234");
+        started.await(3, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> queued = executor.matches("1234", "1234");
+
+        // then
+        assertThrows(ServiceUnavailableException.class, () -> executor.matches("1234", "1234"));
+
+        release.countDown();
+        assertEquals("1234", running.get(3, TimeUnit.SECONDS));
+        assertTrue(queued.get(3, TimeUnit.SECONDS));
+        assertEquals(2, meterRegistry.get("password.hash.time").timer().count());
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
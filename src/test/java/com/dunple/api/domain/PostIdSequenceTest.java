@@ -0,0 +1,73 @@
+package com.dunple.api.domain;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *  V3 스크립트(docs/db/migration)가 post_seq 에 넣는 값(MAX(id) + 50)으로 시작했을 때
+ *  Hibernate pooled optimizer (allocationSize 50, initialValue 1) 가 기존 id 와 겹치지 않게 발급하는지 확인
+ */
+class PostIdSequenceTest {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @DisplayName("기존 글이 있으면 마지막 id 다음부터 발급한다.")
+    @Test
+    void existingRows() {
+        // given
+        long maxId = 120;
+        Optimizer optimizer = pooledOptimizer();
+        TableSequence sequence = new TableSequence(maxId + ALLOCATION_SIZE);
+
+        // expected
+        for (long expected = maxId + 1; expected <= maxId + ALLOCATION_SIZE * 3; expected++) {
+            assertEquals(expected, optimizer.generate(sequence));
+        }
+    }
+
+    @DisplayName("글이 없으면 1 부터 발급한다.")
+    @Test
+    void emptyTable() {
+        // given
+        Optimizer optimizer = pooledOptimizer();
+        TableSequence sequence = new TableSequence(ALLOCATION_SIZE);
+
+        // expected
+        assertEquals(1L, optimizer.generate(sequence));
+        assertEquals(2L, optimizer.generate(sequence));
+    }
+
+    private static Optimizer pooledOptimizer() {
+        return OptimizerFactory.buildOptimizer(OptimizerFactory.POOL, Long.class, ALLOCATION_SIZE, 1);
+    }
+
+    // MySQL 에서 Hibernate 가 쓰는 next_val 테이블처럼 읽은 값을 돌려주고 allocationSize 만큼 올린다.
+    private static class TableSequence implements AccessCallback {
+
+        private long nextVal;
+
+        private TableSequence(long nextVal) {
+            this.nextVal = nextVal;
+        }
+
+        @Override
+        public IntegralDataTypeHolder getNextValue() {
+            IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class)
+                .initialize(nextVal);
+            nextVal += ALLOCATION_SIZE;
+            return value;
+        }
+
+        @Override
+        public String getTenantIdentifier() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.dunple.api.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AhoCorasickTest {
+
+    @DisplayName("겹치거나 다른 단어 안에 들어있는 금지어도 모두 원래 위치로 찾는다.")
+    @Test
+    void findAll() {
+        // given
+        AhoCorasick automaton = AhoCorasick.compile(List.of("he", "she", "his", "hers", "바보", "바보야"));
+
+        // when
+        List<WordMatch> matches = automaton.findAll("uSHErs 바보야");
+
+        // then
+        assertEquals(List.of("she(1~4)", "he(2~4)", "hers(2~6)", "바보(7~9)", "바보야(7~10)"), describe(matches));
+    }
+
+    @DisplayName("금지어가 없으면 아무것도 찾지 않는다.")
+    @Test
+    void empty() {
+        // given
+        AhoCorasick automaton = AhoCorasick.compile(List.of(" ", ""));
+
+        // expected
+        assertEquals(0, automaton.size());
+        assertTrue(automaton.findAll("미카 공주님").isEmpty());
+        assertTrue(AhoCorasick.compile(List.of("바보")).findAll(null).isEmpty());
+    }
+
+    private List<String> describe(List<WordMatch> matches) {
+        return matches.stream()
+            .map(WordMatch::toString)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,38 @@
+package com.dunple.api.filter;
+
+import com.dunple.api.config.BannedWordProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BannedWordFilterTest {
+
+    @DisplayName("금지어 파일이 바뀌면 재시작 없이 새 목록으로 검사한다.")
+    @Test
+    void reloadIfModified(@TempDir Path dir) throws Exception {
+        // given
+        Path file = dir.resolve("banned-words.txt");
+        Files.writeString(file, "# 주석\n바보\n", StandardCharsets.UTF_8);
+        BannedWordFilter filter = new BannedWordFilter(
+            new BannedWordProperties("file:" + file, Duration.ofSeconds(10)), new DefaultResourceLoader());
+        assertEquals(1, filter.findAll("미카 바보").size());
+        assertTrue(filter.findAll("미카 멍청이").isEmpty());
+
+        // when
+        Files.writeString(file, "멍청이\n", StandardCharsets.UTF_8);
+        file.toFile().setLastModified(file.toFile().lastModified() + 1000);
+        filter.reloadIfModified();
+
+        // then
+        assertTrue(filter.findAll("미카 바보").isEmpty());
+        assertEquals(1, filter.findAll("미카 멍청이").size());
+    }
+}
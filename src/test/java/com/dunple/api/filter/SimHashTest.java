@@ -0,0 +1,52 @@
+package com.dunple.api.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimHashTest {
+
+    private static final String TEXT = "지금 가입하면 포인트 만 점을 드립니다. 아래 링크를 눌러서 확인하세요. "
+        + "오늘 하루만 진행하는 이벤트이니 서둘러 주세요. 문의는 댓글로 남겨주세요.";
+
+    @DisplayName("몇 글자만 바꾼 글은 fingerprint 가 몇 비트만 다르고, 다른 글은 많이 다르다.")
+    @Test
+    void distance() {
+        // given
+        long original = SimHash.of(TEXT);
+        long mutated = SimHash.of(TEXT.replace("만 점", "만점!!").replace("오늘", "  오늘"));
+        long other = SimHash.of("우리 이쁜 미카공주님은 오늘도 하루 종일 잠만 잤다. 저녁에는 라면을 먹고 또 잤다. "
+            + "내일은 산책을 나가기로 했는데 비가 온다고 한다.");
+
+        // expected
+        assertTrue(SimHash.distance(original, mutated) <= 7);
+        assertTrue(SimHash.distance(original, other) > 10);
+    }
+
+    @DisplayName("색인은 가까운 fingerprint 만 찾고, 용량을 넘으면 오래된 것부터 잊는다.")
+    @Test
+    void index() {
+        // given
+        SimHashIndex index = new SimHashIndex(3, 2);
+        long first = 0b1111L;
+        long second = 0xFFFF_0000_0000_0000L;
+
+        // when
+        index.add(first);
+        index.add(second);
+
+        // then
+        assertEquals(first, index.findNear(0b0111L));
+        assertEquals(second, index.findNear(second ^ 0b101L));
+        assertNull(index.findNear(0xFF00L));
+
+        // when
+        index.add(0x1234_5678L);
+
+        // then
+        assertEquals(2, index.size());
+        assertNull(index.findNear(first));
+        assertEquals(second, index.findNear(second));
+    }
+}
@@ -0,0 +1,76 @@
+package com.dunple.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecayingTopKTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @DisplayName("점수 높은 순으로 k 개, 반감기가 지난 점수는 절반으로 친다.")
+    @Test
+    void top() {
+        // given
+        DecayingTopK topK = new DecayingTopK(2, 10, Duration.ofHours(1), 0);
+        topK.add(1L, 3, 0);
+        topK.add(2L, 1, 0);
+        topK.add(3L, 2, 0);
+
+        // when
+        // 한 시간 뒤 2 점은 처음의 4 점과 같다.
+        topK.add(4L, 2, HOUR);
+
+        // then
+        assertEquals(List.of(4L, 1L), topK.top(10));
+        assertEquals(List.of(4L), topK.top(1));
+        assertEquals(1.5, topK.scores(HOUR).get(1L), 1e-9);
+    }
+
+    @DisplayName("rescale 해도 순서는 그대로고, 오래 지나도 점수가 넘치지 않는다.")
+    @Test
+    void rescale() {
+        // given
+        DecayingTopK topK = new DecayingTopK(3, 10, Duration.ofHours(1), 0);
+        topK.add(1L, 1, 0);
+        topK.add(2L, 2, 0);
+
+        // when
+        topK.rescale(HOUR);
+        for (long hour = 2; hour < 5000; hour++) {
+            topK.add(3L, 1, hour * HOUR);
+        }
+        topK.add(2L, 1, 5000 * HOUR);
+
+        // then
+        assertEquals(List.of(3L, 2L, 1L), topK.top(10));
+        topK.scores(5000 * HOUR).values().forEach(score -> assertTrue(Double.isFinite(score)));
+        // 한 시간 전부터 1 씩 더한 점수는 1/2 + 1/4 + ... 에 가깝다.
+        assertEquals(1.0, topK.scores(5000 * HOUR).get(3L), 1e-9);
+    }
+
+    @DisplayName("top 에서 지우면 다음 후보가 올라오고, 후보가 넘치면 낮은 것부터 버린다.")
+    @Test
+    void remove() {
+        // given
+        DecayingTopK topK = new DecayingTopK(2, 4, Duration.ofHours(1), 0);
+        topK.add(1L, 5, 0);
+        topK.add(2L, 4, 0);
+        topK.add(3L, 3, 0);
+
+        // when
+        topK.remove(1L);
+        topK.add(4L, 1, 0);
+        topK.add(5L, 2, 0);
+        topK.add(6L, 1, 0);
+
+        // then
+        assertEquals(List.of(2L, 3L), topK.top(10));
+        assertEquals(3, topK.size());
+        assertFalse(topK.scores(0).containsKey(4L));
+    }
+}
@@ -0,0 +1,75 @@
+package com.dunple.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    @DisplayName("띄어쓰기 없이 붙어 있는 한글 단어도 찾고, 많이 등장한 글이 먼저 나온다.")
+    @Test
+    void searchHangul() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "우리 이쁜 미카공주님은 잠만 잔다");
+        index.put(2L, "공주님 공주님 우리 공주님");
+        index.put(3L, "오늘 저녁은 라면");
+
+        // when
+        List<Long> ids = postIds(index.search("공주", 10));
+
+        // then
+        assertEquals(List.of(2L, 1L), ids);
+    }
+
+    @DisplayName("수정하면 이전 내용으로는 찾을 수 없고, 삭제하면 검색되지 않는다.")
+    @Test
+    void putAndRemove() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "미카는 고릴라");
+        index.put(2L, "미카는 공주님");
+
+        // when
+        index.put(1L, "미카는 호랑이");
+        index.remove(2L);
+
+        // then
+        assertEquals(List.of(), postIds(index.search("고릴라", 10)));
+        assertEquals(List.of(), postIds(index.search("공주님", 10)));
+        assertEquals(List.of(1L), postIds(index.search("호랑이", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @DisplayName("지운 글이 많이 쌓여서 정리한 뒤에도 남은 글은 그대로 검색된다.")
+    @Test
+    void compact() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 3000; id++) {
+            index.put(id, "게시글 " + id + (id % 2 == 0 ? " 짝수" : " 홀수"));
+        }
+
+        // when
+        for (long id = 1; id <= 2000; id++) {
+            index.remove(id);
+        }
+
+        // then
+        assertEquals(1000, index.size());
+        List<Long> ids = postIds(index.search("짝수", 1000));
+        assertEquals(500, ids.size());
+        assertTrue(ids.stream().allMatch(id -> id > 2000 && id % 2 == 0));
+        assertEquals(List.of(2999L), postIds(index.search("2999", 1)));
+    }
+
+    private List<Long> postIds(List<SearchHit> hits) {
+        return hits.stream()
+            .map(SearchHit::getPostId)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,69 @@
+package com.dunple.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ *  제목 100만 개로 만든 trie 의 메모리 사용량과 자동완성 응답 시간
+ *  - 기본 test 에서는 제외, ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class RadixTrieBenchmarkTest {
+
+    private static final int TITLES = 1_000_000;
+    private static final String[] WORDS = {
+        "미카", "공주님", "고릴라", "라면", "오늘", "저녁", "스프링", "캐시", "검색", "자동완성",
+        "게시판", "질문", "후기", "java", "spring", "jpa", "querydsl", "h2", "성능", "튜닝"
+    };
+
+    @DisplayName("제목 100만 개 - 메모리 사용량과 자동완성 응답 시간")
+    @Test
+    void footprintAndLatency() {
+        Random random = new Random(42);
+        String[] titles = new String[TITLES];
+        for (int i = 0; i < TITLES; i++) {
+            titles[i] = WORDS[random.nextInt(WORDS.length)] + " "
+                + WORDS[random.nextInt(WORDS.length)] + " " + i;
+        }
+
+        long before = usedMemory();
+        RadixTrie trie = new RadixTrie();
+        for (int i = 0; i < TITLES; i++) {
+            trie.add(PostTitleIndex.normalize(titles[i]), i + 1);
+        }
+        long after = usedMemory();
+        assertEquals(TITLES, trie.size());
+
+        String[] prefixes = {"미", "미카", "미카 공", "spring j", "게시판 후기 12", "자동완성 검색 99999"};
+        for (int i = 0; i < 10_000; i++) {
+            trie.suggest(prefixes[i % prefixes.length], 10);
+        }
+        for (String prefix : prefixes) {
+            long start = System.nanoTime();
+            int rounds = 10_000;
+            List<Long> ids = null;
+            for (int i = 0; i < rounds; i++) {
+                ids = trie.suggest(prefix, 10);
+            }
+            System.out.printf("prefix '%s': %.2f us (결과 %d건)%n", prefix, (System.nanoTime() - start) / 1000.0 / rounds, ids.size());
+        }
+        System.out.printf("trie 메모리: %,d MB (제목 1개당 %d bytes)%n",
+            (after - before) / 1024 / 1024, (after - before) / TITLES);
+        // 측정 끝날 때까지 GC 되지 않게
+        assertEquals(TITLES, trie.size());
+    }
+
+    private long usedMemory() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,51 @@
+package com.dunple.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixTrieTest {
+
+    @DisplayName("prefix 로 시작하는 제목의 글을 최신(id 가 큰) 순으로 limit 개 돌려준다.")
+    @Test
+    void suggest() {
+        // given
+        RadixTrie trie = new RadixTrie();
+        trie.add("미카공주님", 1L);
+        trie.add("미카는 고릴라", 5L);
+        trie.add("미카", 3L);
+        trie.add("미카공주님", 7L);
+        trie.add("라면", 9L);
+
+        // expected
+        assertEquals(List.of(7L, 5L, 3L), trie.suggest("미카", 3));
+        assertEquals(List.of(7L, 1L), trie.suggest("미카공", 10));
+        assertEquals(List.of(5L), trie.suggest("미카는 고", 10));
+        assertEquals(List.of(), trie.suggest("미카공주님이", 10));
+        assertEquals(List.of(9L, 7L, 5L, 3L, 1L), trie.suggest("", 10));
+    }
+
+    @DisplayName("지우면 검색되지 않고, 남은 글의 최신 순서도 다시 계산된다.")
+    @Test
+    void remove() {
+        // given
+        RadixTrie trie = new RadixTrie();
+        trie.add("미카공주님", 1L);
+        trie.add("미카공주", 2L);
+        trie.add("미카는 고릴라", 8L);
+
+        // when
+        trie.remove("미카는 고릴라", 8L);
+        trie.remove("미카공주", 2L);
+        trie.remove("없는 제목", 1L);
+
+        // then
+        assertEquals(1, trie.size());
+        assertEquals(List.of(1L), trie.suggest("미카", 10));
+        assertEquals(List.of(1L), trie.suggest("미카공주", 10));
+        assertEquals(List.of(), trie.suggest("미카는", 10));
+    }
+}
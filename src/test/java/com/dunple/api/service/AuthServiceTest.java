@@ -1,21 +1,27 @@
 package com.dunple.api.service;
 
 import com.dunple.api.crypto.PasswordEncoder;
+import com.dunple.api.domain.Session;
 import com.dunple.api.domain.User;
 import com.dunple.api.exception.AlreadyExistEmailException;
 import com.dunple.api.exception.InvalidSigninInformationException;
+import com.dunple.api.repository.SessionRepository;
 import com.dunple.api.repository.UserRepository;
 import com.dunple.api.request.LoginRequest;
 import com.dunple.api.request.Signup;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.concurrent.CompletionException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ActiveProfiles("default")
@@ -31,11 +37,19 @@ class AuthServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private PasswordEncoder encoder;
 
+    @BeforeEach
     @AfterEach
     void clean() {
+        sessionRepository.deleteAll();
         userRepository.deleteAll();
     }
 
@@ -50,7 +64,7 @@ class AuthServiceTest {
             .build();
 
         // when
-        authService.signup(signup);
+        authService.signup(signup).join();
         User user = userRepository.findByEmail("hyukkind@naver.com")
             .orElseThrow(() -> new InvalidSigninInformationException());
 
@@ -93,7 +107,7 @@ class AuthServiceTest {
             .name("midcon")
             .password("1234")
             .build();
-        authService.signup(signup);
+        authService.signup(signup).join();
 
         LoginRequest request = LoginRequest.builder()
             .email("hyukkind@naver.com")
@@ -101,12 +115,13 @@ class AuthServiceTest {
             .build();
 
         // when
-        String name = authService.signin(request);
+        Session session = authService.signin(request).join();
         User user = userRepository.findByEmail("hyukkind@naver.com")
             .orElseThrow(() -> new InvalidSigninInformationException());
 
         // then
-        assertEquals("midcon", name);
+        assertEquals("midcon", session.getUser().getName());
+        assertTrue(sessionRepository.findByAccessToken(session.getAccessToken()).isPresent());
     }
 
     @DisplayName("로그인 요청 시 DB 정보와 일치하지 않으면 예외가 발생한다.")
@@ -124,4 +139,24 @@ class AuthServiceTest {
             () -> authService.signin(request)
         );
     }
-}
\ No newline at end of file
+
+    @DisplayName("Bloom filter 에 없는 중복 이메일이어도 unique index 로 가입을 막는다.")
+    @Test
+    void signup3() {
+        // given
+        jdbcTemplate.update("insert into `user` (name, email, password, created_at) values (?, ?, ?, now())",
+            "mika", "mika@naver.com", "1234");
+
+        Signup signup = Signup.builder()
+            .email("mika@naver.com")
+            .name("midcon")
+            .password("1234")
+            .build();
+
+        // expected
+        CompletionException e = assertThrows(CompletionException.class,
+            () -> authService.signup(signup).join());
+        assertInstanceOf(AlreadyExistEmailException.class, e.getCause());
+        assertEquals(1, userRepository.count());
+    }
+}
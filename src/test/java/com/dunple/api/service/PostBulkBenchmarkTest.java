@@ -0,0 +1,74 @@
+package com.dunple.api.service;
+
+import com.dunple.api.repository.PostRepository;
+import com.dunple.api.request.PostBulkCreate;
+import com.dunple.api.request.PostCreate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ *  글 한 건씩 저장 vs 배치 저장 처리량 비교
+ *  - 기본 test 에서는 제외, ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest
+class PostBulkBenchmarkTest {
+
+    private static final int ROWS = 5000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @BeforeEach
+    void clean() {
+        postRepository.deleteAll();
+    }
+
+    @DisplayName("글 5000개 저장 - 한 건씩 vs 배치")
+    @Test
+    void writeRowsPerSecond() {
+        List<PostCreate> posts = IntStream.range(0, ROWS)
+            .mapToObj(i -> PostCreate.builder()
+                .title("미카 제목 " + i)
+                .content("미카 내용 " + i)
+                .build())
+            .collect(Collectors.toList());
+
+        // 워밍업
+        postService.writeAll(new PostBulkCreate(posts));
+        posts.forEach(postService::write);
+        postRepository.deleteAll();
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            posts.forEach(postService::write);
+            long perRow = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            postService.writeAll(new PostBulkCreate(posts));
+            long bulk = System.nanoTime() - start;
+
+            assertEquals(ROWS * 2L * round, postRepository.count());
+            System.out.printf("round %d - 한 건씩: %,.0f rows/s, 배치: %,.0f rows/s%n",
+                round, rowsPerSecond(perRow), rowsPerSecond(bulk));
+        }
+    }
+
+    private double rowsPerSecond(long nanos) {
+        return ROWS / (nanos / 1_000_000_000.0);
+    }
+}
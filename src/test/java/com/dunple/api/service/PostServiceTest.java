@@ -1,12 +1,21 @@
 package com.dunple.api.service;
 
+import com.dunple.api.cache.PostCache;
+import com.dunple.api.cache.PostPageCache;
 import com.dunple.api.domain.Post;
+import com.dunple.api.exception.InvalidRequestException;
 import com.dunple.api.exception.PostNotFoundException;
+import com.dunple.api.filter.SpamDetector;
 import com.dunple.api.repository.PostRepository;
+import com.dunple.api.request.PostBulkCreate;
 import com.dunple.api.request.PostCreate;
 import com.dunple.api.request.PostEdit;
 import com.dunple.api.request.PostSearch;
+import com.dunple.api.response.PostBulkResponse;
+import com.dunple.api.response.PostDeleteResponse;
 import com.dunple.api.response.PostResponse;
+import com.dunple.api.response.PostSliceResponse;
+import com.dunple.api.response.PostSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,7 +24,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -31,9 +43,25 @@ class PostServiceTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private PostPageCache postPageCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SpamDetector spamDetector;
+
     @BeforeEach
     void clean() {
         postRepository.deleteAll();
+        postPageCache.clear();
     }
 
     @DisplayName("글 작성")
@@ -47,7 +75,8 @@ class PostServiceTest {
 
         // when
         postService.write(postCreate);
-        Post post = postRepository.findAll().get(0);
+        Long postId = postRepository.findAll().get(0).getId();
+        Post post = postRepository.findWithBodyById(postId).get();
 
         // then
         assertEquals(1L, postRepository.count());
@@ -55,6 +84,69 @@ class PostServiceTest {
         assertEquals("글 내용입니다 하하", post.getContent());
     }
 
+    @DisplayName("스팸 검사를 통과한 글이 롤백되면 같은 글로 다시 작성할 수 있다.")
+    @Test
+    void writeAfterRollback() {
+        // given
+        PostCreate request = PostCreate.builder()
+            .title("롤백될 글")
+            .content("미카공주님이 오늘 낮잠을 세 번이나 잤다는 이야기. ".repeat(3))
+            .build();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            postService.write(request);
+            status.setRollbackOnly();
+        });
+
+        // when
+        postService.write(request);
+
+        // then
+        assertEquals(1L, postRepository.count());
+        assertThrows(InvalidRequestException.class, () -> postService.write(request));
+    }
+
+    @DisplayName("본문을 수정하면 저장된 fingerprint 도 새 본문으로 바뀐다.")
+    @Test
+    void editFingerprint() {
+        // given
+        PostResponse written = postService.write(PostCreate.builder()
+            .title("수정될 글")
+            .content("미카공주님이 아침에 일어나서 밥을 먹고 다시 잠들었다는 이야기. ".repeat(2))
+            .build());
+        String edited = "저녁에는 산책을 나가서 동네 고양이들과 인사를 나눴다는 이야기. ".repeat(2);
+
+        // when
+        postService.edit(written.getId(), PostEdit.builder()
+            .content(edited)
+            .build());
+
+        // then
+        Post post = postRepository.findById(written.getId()).get();
+        assertEquals(spamDetector.fingerprint(edited), post.getFingerprint());
+    }
+
+    @DisplayName("글 여러 개 한 번에 작성")
+    @Test
+    void writeAll() {
+        // given
+        List<PostCreate> posts = IntStream.range(0, 120)
+            .mapToObj(i -> PostCreate.builder()
+                .title("미카 제목 " + i)
+                .content("미카 내용 " + i)
+                .build())
+            .collect(Collectors.toList());
+
+        // when
+        PostBulkResponse response = postService.writeAll(new PostBulkCreate(posts));
+
+        // then
+        assertEquals(120L, postRepository.count());
+        assertEquals(120, response.getCount());
+        Post last = postRepository.findWithBodyById(response.getIds().get(119)).get();
+        assertEquals("미카 제목 119", last.getTitle());
+        assertEquals("미카 내용 119", last.getContent());
+    }
+
     @DisplayName("글 단건 조회 성공")
     @Test
     void get() {
@@ -87,6 +179,51 @@ class PostServiceTest {
         );
     }
 
+    @DisplayName("글 단건 조회 - 두 번째 조회부터는 캐시에서 응답")
+    @Test
+    void getCached() {
+        // given
+        Post post = Post.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("우리 공주님")
+            .build();
+        postRepository.save(post);
+        long hitCount = postCache.stats().hitCount();
+
+        // when
+        postService.get(post.getId());
+        PostResponse response = postService.get(post.getId());
+
+        // then
+        assertEquals(hitCount + 1, postCache.stats().hitCount());
+        assertEquals("우리 공주님", response.getContent());
+    }
+
+    @DisplayName("글 수정 후 단건 조회 시 캐시된 이전 값이 아닌 수정된 값을 응답")
+    @Test
+    void getAfterEdit() {
+        // given
+        Post post = Post.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("우리 공주님")
+            .build();
+        postRepository.save(post);
+        postService.get(post.getId());
+
+        PostEdit request = PostEdit.builder()
+            .title("사랑스러운 공주님")
+            .content("이쁜 겅두님")
+            .build();
+
+        // when
+        postService.edit(post.getId(), request);
+        PostResponse response = postService.get(post.getId());
+
+        // then
+        assertEquals("사랑스러운 공주님", response.getTitle());
+        assertEquals("이쁜 겅두님", response.getContent());
+    }
+
     @DisplayName("글 1페이지 오름차순 조회")
     @Test
     void getListAsc() {
@@ -202,6 +339,108 @@ class PostServiceTest {
         assertEquals("미카 공주님 찬양 22", posts.get(9).getTitle());
     }
 
+    @DisplayName("글 1페이지 조회 - 캐시된 최신 글 목록은 작성/수정/삭제가 바로 반영된다.")
+    @Test
+    void getListQueryDslCached() {
+        // given
+        List<Post> requestPosts = IntStream.rangeClosed(1, 5)
+            .mapToObj(i -> {
+                return Post.builder()
+                    .title("미카 공주님 찬양 " + i)
+                    .content("찬양내용 " + i)
+                    .build();
+            })
+            .collect(Collectors.toList());
+        postRepository.saveAll(requestPosts);
+
+        PostSearch postSearch = PostSearch.builder()
+            .size(3)
+            .build();
+        postService.getListQueryDsl(postSearch);
+
+        // when
+        PostResponse written = postService.write(PostCreate.builder()
+            .title("짤녀 공주면 자러감")
+            .content("잘 자")
+            .build());
+        postService.edit(requestPosts.get(4).getId(), PostEdit.builder()
+            .title("사랑스러운 공주님")
+            .content("이쁜 겅두님")
+            .build());
+        postService.delete(requestPosts.get(3).getId());
+        List<PostResponse> posts = postService.getListQueryDsl(postSearch);
+
+        // then
+        assertEquals(3, posts.size());
+        assertEquals(written.getId(), posts.get(0).getId());
+        assertEquals("사랑스러운 공주님", posts.get(1).getTitle());
+        assertEquals("이쁜 겅두님", posts.get(1).getContent());
+        assertEquals("미카 공주님 찬양 3", posts.get(2).getTitle());
+    }
+
+    @DisplayName("글 커서 페이징 조회 - nextCursor 로 다음 페이지를 이어서 조회")
+    @Test
+    void getListByCursor() {
+        // given
+        List<Post> requestPosts = IntStream.rangeClosed(1, 15)
+            .mapToObj(i -> {
+                return Post.builder()
+                    .title("미카 공주님 찬양 " + i)
+                    .content("찬양내용 " + i)
+                    .build();
+            })
+            .collect(Collectors.toList());
+        postRepository.saveAll(requestPosts);
+
+        PostSearch firstSearch = PostSearch.builder()
+            .size(10)
+            .build();
+
+        // when
+        PostSliceResponse first = postService.getListByCursor(firstSearch);
+        PostSearch nextSearch = PostSearch.builder()
+            .size(10)
+            .cursor(first.getNextCursor())
+            .build();
+        PostSliceResponse next = postService.getListByCursor(nextSearch);
+
+        // then
+        assertEquals(10, first.getPosts().size());
+        assertEquals("미카 공주님 찬양 15", first.getPosts().get(0).getTitle());
+        assertNotNull(first.getNextCursor());
+        assertEquals(5, next.getPosts().size());
+        assertEquals("미카 공주님 찬양 5", next.getPosts().get(0).getTitle());
+        assertNull(next.getNextCursor());
+    }
+
+    @DisplayName("글 요약 목록 조회 - 본문 제외 옵션이면 excerpt 를 조회하지 않는다.")
+    @Test
+    void getSummaryList() {
+        // given
+        Post post = Post.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("우리 공주님".repeat(100))
+            .build();
+        postRepository.save(post);
+
+        PostSearch withContent = PostSearch.builder()
+            .build();
+        PostSearch withoutContent = PostSearch.builder()
+            .withContent(false)
+            .build();
+
+        // when
+        List<PostSummary> summaries = postService.getSummaryList(withContent);
+        List<PostSummary> titleOnly = postService.getSummaryList(withoutContent);
+
+        // then
+        assertEquals(1, summaries.size());
+        assertEquals("우리 이쁜 미카공주님", summaries.get(0).getTitle());
+        assertEquals(PostSummary.EXCERPT_LENGTH, summaries.get(0).getExcerpt().length());
+        assertEquals(post.getId(), titleOnly.get(0).getId());
+        assertNull(titleOnly.get(0).getExcerpt());
+    }
+
     @DisplayName("글 제목 수정 성공")
     @Test
     void edit() {
@@ -219,7 +458,7 @@ class PostServiceTest {
 
         // when
         postService.edit(post.getId(), request);
-        Post changedPost = postRepository.findById(post.getId())
+        Post changedPost = postRepository.findWithBodyById(post.getId())
             .orElseThrow(() -> new RuntimeException("글이 존재하지 않습니다. id = " + post.getId()));
 
         // then
@@ -228,6 +467,32 @@ class PostServiceTest {
         assertEquals("우리 공주님", changedPost.getContent());
     }
 
+    @DisplayName("글 제목만 수정 - 보내지 않은 본문은 그대로 두고 version 은 올린다.")
+    @Test
+    void editTitleOnly() {
+        // given
+        Post post = Post.builder()
+            .title("우리 이쁜 미카공주님")
+            .content("우리 공주님")
+            .build();
+        postRepository.save(post);
+
+        PostEdit request = PostEdit.builder()
+            .title("사랑스러운 공주님")
+            .build();
+
+        // when
+        PostResponse response = postService.edit(post.getId(), request);
+        Post changedPost = postRepository.findWithBodyById(post.getId()).get();
+
+        // then
+        assertEquals("사랑스러운 공주님", changedPost.getTitle());
+        assertEquals("우리 공주님", changedPost.getContent());
+        assertEquals(post.getVersion() + 1, changedPost.getVersion());
+        assertEquals("우리 공주님", response.getContent());
+        assertEquals(changedPost.getVersion(), response.getVersion());
+    }
+
     @DisplayName("글 제목 수정 실패 - 존재하지 않는 글")
     @Test
     void edit1() {
@@ -261,7 +526,7 @@ class PostServiceTest {
 
         // when
         postService.edit(post.getId(), request);
-        Post changedPost = postRepository.findById(post.getId())
+        Post changedPost = postRepository.findWithBodyById(post.getId())
             .orElseThrow(() -> new RuntimeException("글이 존재하지 않습니다. id = " + post.getId()));
 
         // then
@@ -303,6 +568,39 @@ class PostServiceTest {
         assertEquals(0, postRepository.count());
     }
 
+    @DisplayName("게시글 범위 삭제 - 본문까지 같이 지운다.")
+    @Test
+    void deleteRange() {
+        // given
+        List<Post> posts = IntStream.range(0, 10)
+            .mapToObj(i -> Post.builder()
+                .title("미카 제목 " + i)
+                .content("미카 내용 " + i)
+                .build())
+            .collect(Collectors.toList());
+        postRepository.saveAll(posts);
+
+        // when
+        PostDeleteResponse response = postService.deleteRange(posts.get(2).getId(), posts.get(6).getId());
+
+        // then
+        assertEquals(5L, response.getCount());
+        assertEquals(5L, postRepository.count());
+        assertEquals(5L, entityManager.createQuery("select count(b) from PostBody b", Long.class).getSingleResult());
+        assertFalse(postRepository.existsById(posts.get(4).getId()));
+        assertTrue(postRepository.existsById(posts.get(7).getId()));
+    }
+
+    @DisplayName("게시글 범위 삭제 실패 - 한 번에 지울 수 있는 범위를 넘으면 예외가 발생한다.")
+    @Test
+    void deleteRangeTooLarge() {
+        // expected
+        assertThrows(InvalidRequestException.class,
+            () -> postService.deleteRange(0L, Long.MAX_VALUE));
+        assertThrows(InvalidRequestException.class,
+            () -> postService.deleteRange(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
     @DisplayName("게시글 삭제 실패 - 존재하지 않는 글")
     @Test
     void delete1() {